@@ -0,0 +1,49 @@
+package toyproject.board.benchmark;
+
+import org.mindrot.jbcrypt.BCrypt;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt 해시 / 검증 벤치마크
+ * - cost 별 처리량(Throughput)과 지연 시간 분포(SampleTime, p0.99 포함)를 측정
+ * - ./gradlew jmh
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BCryptBenchmark {
+
+    private static final String PASSWORD = "12341234";
+    private static final String WRONG_PASSWORD = "43214321";
+
+    @Param({"8", "9", "10", "11", "12"})
+    private int cost;
+
+    private String hashed;
+
+    @Setup
+    public void setUp() {
+        hashed = BCrypt.hashpw(PASSWORD, BCrypt.gensalt(cost));
+    }
+
+    @Benchmark
+    public String hash() {
+        return BCrypt.hashpw(PASSWORD, BCrypt.gensalt(cost));
+    }
+
+    @Benchmark
+    public boolean checkMatch() {
+        return BCrypt.checkpw(PASSWORD, hashed);
+    }
+
+    @Benchmark
+    public boolean checkMismatch() {
+        return BCrypt.checkpw(WRONG_PASSWORD, hashed);
+    }
+
+}
@@ -0,0 +1,160 @@
+package toyproject.board.benchmark;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.id.IdentityGenerator;
+import org.hibernate.jpa.spi.IdentifierGeneratorStrategyProvider;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import toyproject.board.BoardApplication;
+import toyproject.board.domain.PooledIdGenerator;
+import toyproject.board.domain.board.Board;
+import toyproject.board.domain.comment.Comment;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 10만 건 em.persist 벤치마크 (IDENTITY vs pooled-lo + JDBC 배치)
+ * - 애플리케이션 컨텍스트를 띄워 실제 엔티티 매핑, EntityManager, 하이버네이트 설정(batch_size, order_inserts)으로 INSERT
+ * - identity : PooledIdGenerator 전략을 IdentityGenerator 로 바꿔서 실행 (변경 전 매핑, 한 건씩 INSERT)
+ * - pooled : 현재 매핑 (allocationSize 마다 ID 구간을 가져오고 batch_size 단위로 배치 INSERT)
+ * - allocationSize 건마다 flush / clear (CommentImportService 와 같음)
+ * - 반복마다 하이버네이트 통계로 PreparedStatement 수를 확인, pooled 인데 배치되지 않았으면 실패
+ * - MySQL 필요 (-Dbench.db.url, -Dbench.db.username, -Dbench.db.password), 테이블은 ddl-auto=create 로 다시 만듦
+ * - ./gradlew jmh -Pjmh.includes=CommentInsertBenchmark
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CommentInsertBenchmark {
+
+    private static final int ROWS = 100_000;
+
+    @Param({"identity", "pooled"})
+    private String mode;
+
+    @Param({"50"})
+    private int allocationSize;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager em;
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+
+    private Long boardId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String url = System.getProperty("bench.db.url",
+                "jdbc:mysql://localhost:3306/board_bench?serverTimezone=UTC&characterEncoding=UTF-8&rewriteBatchedStatements=true");
+
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(BoardApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + url,
+                        "spring.datasource.username=" + System.getProperty("bench.db.username", "root"),
+                        "spring.datasource.password=" + System.getProperty("bench.db.password", "12341234"),
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "spring.jpa.properties." + PooledIdGenerator.ALLOCATION_SIZE + "=" + allocationSize,
+                        "spring.jpa.properties." + AvailableSettings.STATEMENT_BATCH_SIZE + "=" + allocationSize,
+                        "spring.jpa.properties." + AvailableSettings.GENERATE_STATISTICS + "=true",
+                        "logging.level.org.hibernate.SQL=info",
+                        "decorator.datasource.p6spy.enable-logging=false",
+                        "board.search.enabled=false",
+                        "board.name-index.enabled=false");
+
+        if ("identity".equals(mode)) {
+            builder.properties("spring.jpa.properties." + AvailableSettings.IDENTIFIER_GENERATOR_STRATEGY_PROVIDER
+                    + "=" + IdentityStrategies.class.getName());
+        }
+
+        context = builder.run();
+
+        EntityManagerFactory emf = context.getBean(EntityManagerFactory.class);
+        em = SharedEntityManagerCreator.createSharedEntityManager(emf);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+
+        boardId = transactionTemplate.execute(status -> {
+            Board board = Board.builder()
+                    .title("bench")
+                    .content("bench")
+                    .nickname("ㅇㅇ")
+                    .password("1234")
+                    .build();
+            em.persist(board);
+            return board.getId();
+        });
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        transactionTemplate.executeWithoutResult(status -> em.createQuery("delete from Comment").executeUpdate());
+        statistics.clear();
+    }
+
+    @TearDown(Level.Iteration)
+    public void verify() {
+        long prepared = statistics.getPrepareStatementCount();
+        System.out.printf("%n%s : INSERT %d건, PreparedStatement %d개%n", mode, statistics.getEntityInsertCount(), prepared);
+
+        if ("pooled".equals(mode) && prepared >= ROWS) {
+            throw new IllegalStateException("배치 INSERT 가 적용되지 않음 : PreparedStatement " + prepared + "개");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public long insert() {
+        return transactionTemplate.execute(status -> {
+            Board board = em.getReference(Board.class, boardId);
+            Long last = null;
+
+            for (int i = 0; i < ROWS; i++) {
+                Comment comment = Comment.builder()
+                        .board(board)
+                        .content("comment" + i)
+                        .nickname("ㅇㅇ")
+                        .password("1234")
+                        .build();
+                em.persist(comment);
+                last = comment.getId();
+
+                if ((i + 1) % allocationSize == 0) {
+                    em.flush();
+                    em.clear();
+                    board = em.getReference(Board.class, boardId);
+                }
+            }
+
+            em.flush();
+            return last;
+        });
+    }
+
+    // 변경 전 매핑 : PooledIdGenerator 대신 IDENTITY (AUTO_INCREMENT 컬럼, INSERT 마다 생성된 키 조회)
+    public static class IdentityStrategies implements IdentifierGeneratorStrategyProvider {
+
+        @Override
+        public Map<String, Class<?>> getStrategies() {
+            return Collections.singletonMap(PooledIdGenerator.class.getName(), IdentityGenerator.class);
+        }
+    }
+
+}
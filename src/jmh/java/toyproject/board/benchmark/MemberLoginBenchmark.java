@@ -0,0 +1,102 @@
+package toyproject.board.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import toyproject.board.domain.member.Member;
+import toyproject.board.domain.member.MemberRepository;
+import toyproject.board.dto.member.command.MemberRequestDto;
+import toyproject.board.service.MemberService;
+import toyproject.board.service.PasswordHashingService;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MemberService.login 벤치마크
+ * - 리포지토리는 메모리의 멤버 한 명을 반환하는 스텁으로 대체 (DB 제외, 비밀번호 검증 비용만 측정)
+ * - 스프링 프록시 없이 호출하므로 검증(@Valid), 트랜잭션은 포함되지 않음
+ * - ./gradlew jmh
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MemberLoginBenchmark {
+
+    private static final String USERNAME = "user1";
+    private static final String PASSWORD = "12341234";
+
+    @Param({"8", "9", "10", "11", "12"})
+    private int cost;
+
+    private PasswordHashingService passwordHashingService;
+    private MemberService memberService;
+
+    private MemberRequestDto match;
+    private MemberRequestDto mismatch;
+
+    @Setup
+    public void setUp() {
+        passwordHashingService = new PasswordHashingService(cost, 1, 1, 1, 1, 1);
+
+        Member member = Member.builder()
+                .username(USERNAME)
+                .password(passwordHashingService.hash(PASSWORD))
+                .build();
+
+        memberService = new MemberService(stubRepository(member), null, passwordHashingService, null, null);
+
+        match = MemberRequestDto.builder()
+                .username(USERNAME)
+                .password(PASSWORD)
+                .build();
+        mismatch = MemberRequestDto.builder()
+                .username(USERNAME)
+                .password("43214321")
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordHashingService.destroy();
+    }
+
+    @Benchmark
+    public Member login() {
+        return memberService.login(match);
+    }
+
+    @Benchmark
+    public boolean loginWrongPassword() {
+        try {
+            memberService.login(mismatch);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // findByUsername 만 지원하는 MemberRepository 스텁
+    private static MemberRepository stubRepository(Member member) {
+        return (MemberRepository) Proxy.newProxyInstance(
+                MemberRepository.class.getClassLoader(),
+                new Class<?>[]{MemberRepository.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "findByUsername":
+                            return Optional.of(member).filter(m -> m.getUsername().equals(args[0]));
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "StubMemberRepository";
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+}
@@ -0,0 +1,88 @@
+package toyproject.board.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import toyproject.board.ratelimit.RateLimiter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청 속도 제한 확인 경로 벤치마크
+ * - lockFree : RateLimiter (Caffeine 조회 + TokenBucket CAS)
+ * - synchronizedBucket : 같은 계산을 synchronized 로 한 버킷 (비교 기준)
+ * - sameClient : 모든 스레드가 같은 IP (한 버킷에 CAS 경합), distinctClients : 스레드마다 다른 IP
+ * - 허용 / 거절 모두 포함되도록 버킷은 작게 잡음 (거절 경로가 공격 시 주 경로)
+ * - ./gradlew jmh
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+    private static final AtomicInteger THREAD_SEQUENCE = new AtomicInteger();
+
+    private RateLimiter rateLimiter;
+    private SynchronizedBucket synchronizedBucket;
+
+    @State(Scope.Thread)
+    public static class Client {
+        String ip;
+
+        @Setup
+        public void setUp() {
+            ip = "10.0.0." + THREAD_SEQUENCE.incrementAndGet();
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        rateLimiter = new RateLimiter(100, 6000, 100_000);
+        synchronizedBucket = new SynchronizedBucket(100, TimeUnit.MINUTES.toNanos(1) / 6000, System.nanoTime());
+    }
+
+    @Benchmark
+    public long lockFreeSameClient() {
+        return rateLimiter.tryAcquire("10.0.0.0");
+    }
+
+    @Benchmark
+    public long lockFreeDistinctClients(Client client) {
+        return rateLimiter.tryAcquire(client.ip);
+    }
+
+    @Benchmark
+    public long synchronizedBucketSameClient() {
+        return synchronizedBucket.tryAcquire(System.nanoTime());
+    }
+
+    // 잠금 방식 token bucket (토큰 수 + 마지막 충전 시각)
+    static class SynchronizedBucket {
+
+        private final long capacity;
+        private final long interval;
+        private double tokens;
+        private long lastRefill;
+
+        SynchronizedBucket(long capacity, long interval, long now) {
+            this.capacity = capacity;
+            this.interval = interval;
+            this.tokens = capacity;
+            this.lastRefill = now;
+        }
+
+        synchronized long tryAcquire(long now) {
+            tokens = Math.min(capacity, tokens + (double) (now - lastRefill) / interval);
+            lastRefill = now;
+            if (tokens >= 1) {
+                tokens--;
+                return 0;
+            }
+            return (long) ((1 - tokens) * interval);
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+package toyproject.board.benchmark;
+
+import com.google.common.base.Joiner;
+import org.openjdk.jmh.annotations.*;
+import toyproject.board.aop.RequestLogFormatter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 로그 포맷 할당량 벤치마크
+ * - legacy : 기존 LoggingAspect 방식 (String.format + Joiner + Stream)
+ * - formatter : RequestLogFormatter (스레드 로컬 StringBuilder)
+ * - 요청당 할당 바이트는 gc 프로파일러의 gc.alloc.rate.norm (B/op) 으로 확인
+ * - ./gradlew jmh
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestLogBenchmark {
+
+    private static final String METHOD = "GET";
+    private static final String URI = "/board/search";
+    private static final String REMOTE_HOST = "127.0.0.1";
+
+    private Map<String, String[]> paramMap;
+
+    @Setup
+    public void setUp() {
+        paramMap = new LinkedHashMap<>();
+        paramMap.put("title", new String[]{"spring"});
+        paramMap.put("nickname", new String[]{"user1"});
+        paramMap.put("page", new String[]{"2"});
+        paramMap.put("sort", new String[]{"createdDate,desc", "id,desc"});
+    }
+
+    @Benchmark
+    public String legacy() {
+        String params = "";
+        if (!paramMap.isEmpty()) {
+            params = "?" + paramMap.entrySet().stream()
+                    .map(entry -> String.format("%s=%s",
+                            entry.getKey(), Joiner.on(",").join(entry.getValue())))
+                    .collect(Collectors.joining("&"));
+        }
+        return METHOD + " " + URI + params + " | " + REMOTE_HOST;
+    }
+
+    @Benchmark
+    public String formatter() {
+        return RequestLogFormatter.format(METHOD, URI, paramMap, REMOTE_HOST);
+    }
+
+}
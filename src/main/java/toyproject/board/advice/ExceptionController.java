@@ -1,5 +1,6 @@
 package toyproject.board.advice;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -8,6 +9,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import toyproject.board.dto.BasicResponseDto;
 import toyproject.board.dto.exception.ExceptionDto;
 import toyproject.board.dto.exception.ExceptionResponseDto;
+import toyproject.board.ratelimit.RateLimitExceededException;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
@@ -16,6 +18,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.springframework.http.HttpStatus.*;
 
@@ -48,6 +51,41 @@ public class ExceptionController {
                 .body(dto);
     }
 
+    /**
+     * 상태 코드 : 503
+     * 비밀번호 해시 풀의 대기열이 가득 찬 경우
+     */
+    @ExceptionHandler({RejectedExecutionException.class})
+    public ResponseEntity<BasicResponseDto> serviceUnavailableException(RejectedExecutionException e) {
+
+        BasicResponseDto dto = BasicResponseDto.builder()
+                .httpStatus(SERVICE_UNAVAILABLE)
+                .message("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.")
+                .build();
+
+        return ResponseEntity
+                .status(SERVICE_UNAVAILABLE)
+                .body(dto);
+    }
+
+    /**
+     * 상태 코드 : 429
+     * 클라이언트별 쓰기 요청 속도 제한 초과
+     */
+    @ExceptionHandler({RateLimitExceededException.class})
+    public ResponseEntity<BasicResponseDto> tooManyRequestsException(RateLimitExceededException e) {
+
+        BasicResponseDto dto = BasicResponseDto.builder()
+                .httpStatus(TOO_MANY_REQUESTS)
+                .message(e.getMessage())
+                .build();
+
+        return ResponseEntity
+                .status(TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(dto);
+    }
+
     /**
      * 상태 코드 : 400
      */
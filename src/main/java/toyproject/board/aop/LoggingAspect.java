@@ -1,6 +1,5 @@
 package toyproject.board.aop;
 
-import com.google.common.base.Joiner;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.AfterThrowing;
@@ -9,14 +8,15 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StopWatch;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import toyproject.board.metrics.LatencyMetrics;
 
 import javax.servlet.http.HttpServletRequest;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 
 // 로그 클래스
 @Aspect
@@ -25,11 +25,16 @@ public class LoggingAspect {
 
     public static final Logger logger = LoggerFactory.getLogger(LoggingAspect.class);
 
-    private String paramMapToString(Map<String, String[]> paramMap) {
-        return paramMap.entrySet().stream()
-                .map(entry -> String.format("%s=%s",
-                        entry.getKey(), Joiner.on(",").join(entry.getValue())))
-                .collect(Collectors.joining("&"));
+    private final LatencyMetrics latencyMetrics;
+    private final boolean requestLogEnabled;
+    private final boolean latencyMetricsEnabled;
+
+    public LoggingAspect(LatencyMetrics latencyMetrics,
+                         @Value("${board.logging.request-log:true}") boolean requestLogEnabled,
+                         @Value("${board.metrics.latency.enabled:true}") boolean latencyMetricsEnabled) {
+        this.latencyMetrics = latencyMetrics;
+        this.requestLogEnabled = requestLogEnabled;
+        this.latencyMetricsEnabled = latencyMetricsEnabled;
     }
 
     @Pointcut("within(toyproject.board.controller..*)")
@@ -40,25 +45,54 @@ public class LoggingAspect {
     public void afterThrow() {
     }
 
+    /**
+     * 요청 로그 / 응답 시간 기록
+     * - CompletableFuture 를 반환하는 비동기 핸들러는 완료 시점까지의 시간을 기록
+     */
     @Around("toyproject.board.aop.LoggingAspect.onRequest()")
     public Object doLogging(ProceedingJoinPoint pjp) throws Throwable {
-        HttpServletRequest request =
-                ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
 
-        Map<String, String[]> paramMap = request.getParameterMap();
-        String params = "";
-        if (!paramMap.isEmpty()) {
-            params = "?" + paramMapToString(paramMap);
+        // INFO 가 꺼져 있으면 요청 로그 문자열을 만들지 않음
+        boolean logRequest = requestLogEnabled && logger.isInfoEnabled();
+        if (!logRequest && !latencyMetricsEnabled) {
+            return pjp.proceed(pjp.getArgs());
         }
 
-        StopWatch stopWatch = new StopWatch();
-        stopWatch.start();
+        String handler = pjp.getSignature().toShortString();
+        String requestLine = logRequest ? requestLine() : null;
+
+        long start = System.nanoTime();
+        Object result = null;
         try {
-            return pjp.proceed(pjp.getArgs());
+            result = pjp.proceed(pjp.getArgs());
+            return result;
         } finally {
-            stopWatch.stop();
-            logger.info("Request: {} {}{} | {} | {}ms", request.getMethod(), request.getRequestURI(),
-                    params, request.getRemoteHost(), stopWatch.getTotalTimeMillis());
+            if (result instanceof CompletionStage) {
+                ((CompletionStage<?>) result).whenComplete((value, e) -> afterRequest(handler, requestLine, start));
+            } else {
+                afterRequest(handler, requestLine, start);
+            }
+        }
+    }
+
+    // 요청 스레드에서 요청 정보를 미리 읽어 둠 (비동기 완료 시점에는 request 를 사용할 수 없음)
+    private String requestLine() {
+        HttpServletRequest request =
+                ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+
+        return RequestLogFormatter.format(request.getMethod(), request.getRequestURI(),
+                request.getParameterMap(), request.getRemoteHost());
+    }
+
+    private void afterRequest(String handler, String requestLine, long start) {
+        long elapsed = System.nanoTime() - start;
+
+        if (latencyMetricsEnabled) {
+            latencyMetrics.record(handler, elapsed);
+        }
+
+        if (requestLine != null) {
+            logger.info("Request: {} | {}ms", requestLine, TimeUnit.NANOSECONDS.toMillis(elapsed));
         }
     }
 
@@ -0,0 +1,60 @@
+package toyproject.board.aop;
+
+import java.util.Map;
+
+/**
+ * 요청 로그 포맷터
+ * - 스레드마다 StringBuilder 를 재사용하므로 결과 문자열 외에는 할당하지 않음
+ * - 형식 : {method} {uri}?{key}={value},{value}&{key}={value} | {remoteHost}
+ */
+public final class RequestLogFormatter {
+
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int MAX_RETAINED_CAPACITY = 4096;
+
+    private static final ThreadLocal<StringBuilder> BUFFER =
+            ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_CAPACITY));
+
+    private RequestLogFormatter() {
+    }
+
+    public static String format(String method, String uri, Map<String, String[]> paramMap, String remoteHost) {
+
+        StringBuilder builder = buffer();
+        builder.append(method).append(' ').append(uri);
+
+        if (!paramMap.isEmpty()) {
+            char separator = '?';
+            for (Map.Entry<String, String[]> entry : paramMap.entrySet()) {
+                builder.append(separator).append(entry.getKey()).append('=');
+                appendValues(builder, entry.getValue());
+                separator = '&';
+            }
+        }
+
+        builder.append(" | ").append(remoteHost);
+
+        return builder.toString();
+    }
+
+    private static void appendValues(StringBuilder builder, String[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(values[i]);
+        }
+    }
+
+    // 너무 커진 버퍼는 버리고 새로 만듦 (긴 쿼리 스트링 한 번으로 메모리를 계속 잡고 있지 않도록)
+    private static StringBuilder buffer() {
+        StringBuilder builder = BUFFER.get();
+        if (builder.capacity() > MAX_RETAINED_CAPACITY) {
+            builder = new StringBuilder(INITIAL_CAPACITY);
+            BUFFER.set(builder);
+        }
+        builder.setLength(0);
+        return builder;
+    }
+
+}
@@ -0,0 +1,9 @@
+package toyproject.board.auth;
+
+// 인증 방식 (board.auth.mode)
+public enum AuthMode {
+
+    SESSION, // HttpSession (기본값)
+    TOKEN    // HMAC 서명 토큰, 서버에 상태를 저장하지 않음
+
+}
@@ -0,0 +1,15 @@
+package toyproject.board.auth;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 로그인한 멤버 주입
+ * - LoginMember 타입 파라미터에 사용, 로그인하지 않았으면 null
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Login {
+}
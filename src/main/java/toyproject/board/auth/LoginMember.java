@@ -0,0 +1,55 @@
+package toyproject.board.auth;
+
+import toyproject.board.domain.member.Member;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * 로그인한 멤버 정보 (세션 저장용)
+ * - 엔티티 대신 ID, username 만 보관하므로 세션 크기와 직렬화 비용이 작음
+ * - 불변 객체
+ */
+public final class LoginMember implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Long id;
+    private final String username;
+
+    public LoginMember(Long id, String username) {
+        this.id = id;
+        this.username = username;
+    }
+
+    public static LoginMember from(Member member) {
+        return new LoginMember(member.getId(), member.getUsername());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LoginMember)) return false;
+        LoginMember that = (LoginMember) o;
+        return Objects.equals(id, that.id) && Objects.equals(username, that.username);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, username);
+    }
+
+    @Override
+    public String toString() {
+        return "LoginMember(id=" + id + ", username=" + username + ")";
+    }
+
+}
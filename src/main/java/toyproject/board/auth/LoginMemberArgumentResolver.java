@@ -0,0 +1,46 @@
+package toyproject.board.auth;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+
+// @Login LoginMember 파라미터에 로그인 멤버를 주입 (토큰 인증 요청 속성 -> 세션 순서로 조회)
+public class LoginMemberArgumentResolver implements HandlerMethodArgumentResolver {
+
+    public static final String SESSION_KEY = "member";
+    public static final String REQUEST_KEY = LoginMember.class.getName();
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(Login.class)
+                && LoginMember.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest,
+                                  WebDataBinderFactory binderFactory) {
+
+        // 토큰 인증 (TokenAuthInterceptor)
+        Object member = webRequest.getAttribute(REQUEST_KEY, RequestAttributes.SCOPE_REQUEST);
+        if (member != null) {
+            return member;
+        }
+
+        HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+        HttpSession session = request == null ? null : request.getSession(false); // 세션을 새로 만들지 않음
+        if (session == null) {
+            return null;
+        }
+
+        return session.getAttribute(SESSION_KEY);
+    }
+
+}
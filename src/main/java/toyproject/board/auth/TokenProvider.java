@@ -0,0 +1,163 @@
+package toyproject.board.auth;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * HMAC-SHA256 서명 토큰 발급 / 검증
+ * - 형식 : base64url(payload) + "." + base64url(HMAC(base64url(payload)))
+ * - payload : 멤버 ID(8) + 만료 시각 epoch 초(8) + User-Agent 해시(8) + username(UTF-8)
+ * - 서버에 상태를 저장하지 않으므로 세션 조회 / 세션 고정(sticky session)이 필요 없음
+ */
+@Component
+public class TokenProvider {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final int HEADER_LENGTH = 8 + 8 + 8;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final AuthMode mode;
+    private final long ttlSeconds;
+    private final ThreadLocal<Mac> mac; // 토큰 모드에서만 생성
+
+    public TokenProvider(@Value("${board.auth.mode:session}") AuthMode mode,
+                         @Value("${board.auth.token.secret:}") String secret,
+                         @Value("${board.auth.token.ttl:PT1H}") Duration ttl) {
+
+        if (mode == AuthMode.TOKEN && secret.length() < 32) {
+            throw new IllegalStateException("board.auth.token.secret 는 32자 이상이어야 합니다.");
+        }
+
+        this.mode = mode;
+        this.ttlSeconds = ttl.getSeconds();
+
+        // 세션 모드(기본값)에서는 secret 이 비어 있으므로 키를 만들지 않음 (빈 키는 SecretKeySpec 에서 예외)
+        if (mode != AuthMode.TOKEN) {
+            this.mac = null;
+            return;
+        }
+
+        SecretKeySpec key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance(ALGORITHM);
+                instance.init(key);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    public boolean isTokenMode() {
+        return mode == AuthMode.TOKEN;
+    }
+
+    // 토큰 발급
+    public String issue(LoginMember member, String userAgent) {
+
+        checkTokenMode();
+
+        byte[] username = member.getUsername().getBytes(StandardCharsets.UTF_8);
+        long expiresAt = System.currentTimeMillis() / 1000 + ttlSeconds;
+
+        byte[] payload = ByteBuffer.allocate(HEADER_LENGTH + username.length)
+                .putLong(member.getId())
+                .putLong(expiresAt)
+                .putLong(fingerprint(userAgent))
+                .put(username)
+                .array();
+
+        byte[] encodedPayload = ENCODER.encode(payload);
+        byte[] signature = mac.get().doFinal(encodedPayload);
+
+        return new String(encodedPayload, StandardCharsets.US_ASCII) + "." + ENCODER.encodeToString(signature);
+    }
+
+    /**
+     * 토큰 검증
+     * - 서명, 만료 시각, User-Agent 가 모두 일치하면 로그인 멤버, 아니면 null
+     */
+    public LoginMember verify(String token, String userAgent) {
+
+        checkTokenMode();
+
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot == token.length() - 1) {
+            return null;
+        }
+
+        byte[] bytes = token.getBytes(StandardCharsets.US_ASCII);
+
+        try {
+            // 서명 비교 (상수 시간)
+            Mac instance = mac.get();
+            instance.update(bytes, 0, dot);
+            byte[] expected = instance.doFinal();
+
+            ByteBuffer signature = DECODER.decode(ByteBuffer.wrap(bytes, dot + 1, bytes.length - dot - 1));
+            if (signature.remaining() != SIGNATURE_LENGTH) {
+                return null;
+            }
+            int diff = 0;
+            for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+                diff |= expected[i] ^ signature.get(i);
+            }
+            if (diff != 0) {
+                return null;
+            }
+
+            ByteBuffer payload = DECODER.decode(ByteBuffer.wrap(bytes, 0, dot));
+            if (payload.remaining() <= HEADER_LENGTH) {
+                return null;
+            }
+
+            long memberId = payload.getLong();
+            long expiresAt = payload.getLong();
+            long fingerprint = payload.getLong();
+
+            if (expiresAt < System.currentTimeMillis() / 1000 || fingerprint != fingerprint(userAgent)) {
+                return null;
+            }
+
+            String username = new String(payload.array(), payload.arrayOffset() + payload.position(),
+                    payload.remaining(), StandardCharsets.UTF_8);
+
+            return new LoginMember(memberId, username);
+
+        } catch (IllegalArgumentException e) {
+            return null; // 잘못된 base64
+        }
+    }
+
+    private void checkTokenMode() {
+        if (mac == null) {
+            throw new IllegalStateException("토큰 모드(board.auth.mode: token)에서만 사용할 수 있습니다.");
+        }
+    }
+
+    // User-Agent 해시 (FNV-1a 64)
+    private static long fingerprint(String userAgent) {
+        long hash = 0xCBF29CE484222325L;
+        if (userAgent == null) {
+            return hash;
+        }
+        for (int i = 0; i < userAgent.length(); i++) {
+            hash ^= userAgent.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+}
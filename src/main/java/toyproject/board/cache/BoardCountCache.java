@@ -0,0 +1,66 @@
+package toyproject.board.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 게시물 리스트 total count 캐시
+ * - 검색 조건별 count 결과를 짧은 시간(ttl) 동안 재사용
+ * - ttl 이 0 이하이면 캐시하지 않음
+ */
+@Component
+public class BoardCountCache {
+
+    private static final int MAX_SIZE = 10_000;
+
+    private final long ttlMillis;
+    private final ConcurrentHashMap<BoardCountKey, Entry> cache = new ConcurrentHashMap<>();
+
+    public BoardCountCache(@Value("${board.count-cache.ttl:5000}") long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+    }
+
+    public long get(BoardCountKey key, LongSupplier counter) {
+
+        if (ttlMillis <= 0) {
+            return counter.getAsLong();
+        }
+
+        long now = System.currentTimeMillis();
+
+        Entry entry = cache.get(key);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.count;
+        }
+
+        long count = counter.getAsLong();
+
+        if (cache.size() >= MAX_SIZE) {
+            cache.values().removeIf(e -> e.expiresAt <= now);
+        }
+        if (cache.size() < MAX_SIZE) {
+            cache.put(key, new Entry(count, now + ttlMillis));
+        }
+
+        return count;
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    private static class Entry {
+
+        private final long count;
+        private final long expiresAt;
+
+        private Entry(long count, long expiresAt) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+}
@@ -0,0 +1,64 @@
+package toyproject.board.cache;
+
+import toyproject.board.dto.board.query.BoardSearchCondition;
+
+import java.util.Objects;
+
+/**
+ * BoardCountCache 키
+ * - 검색 조건 필드를 문자열로 이어 붙이면 구분자가 포함된 검색어끼리 키가 겹칠 수 있으므로 필드별로 비교
+ * - 정렬 조건(isAsc)은 count 와 무관하므로 제외
+ */
+public final class BoardCountKey {
+
+    private static final BoardCountKey LIST = new BoardCountKey(false, null, null, null, null);
+
+    private final boolean search;
+    private final String nickname;
+    private final String title;
+    private final String content;
+    private final Long memberId;
+
+    private BoardCountKey(boolean search, String nickname, String title, String content, Long memberId) {
+        this.search = search;
+        this.nickname = nickname;
+        this.title = title;
+        this.content = content;
+        this.memberId = memberId;
+    }
+
+    // 게시물 리스트 (검색 X)
+    public static BoardCountKey list() {
+        return LIST;
+    }
+
+    public static BoardCountKey search(BoardSearchCondition condition) {
+        return new BoardCountKey(true,
+                condition.getNickname(),
+                condition.getTitle(),
+                condition.getContent(),
+                condition.getMemberId());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof BoardCountKey)) {
+            return false;
+        }
+        BoardCountKey that = (BoardCountKey) o;
+        return search == that.search
+                && Objects.equals(nickname, that.nickname)
+                && Objects.equals(title, that.title)
+                && Objects.equals(content, that.content)
+                && Objects.equals(memberId, that.memberId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(search, nickname, title, content, memberId);
+    }
+
+}
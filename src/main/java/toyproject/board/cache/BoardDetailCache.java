@@ -0,0 +1,161 @@
+package toyproject.board.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import toyproject.board.datasource.PrimaryReads;
+import toyproject.board.dto.board.query.BoardQueryDto;
+import toyproject.board.dto.comment.query.CommentQueryDto;
+import toyproject.board.dto.metrics.CacheStatsDto;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 게시물 상세 캐시
+ * - 게시물 상세 (BoardQueryDto) 와 댓글 첫 페이지를 게시물 ID 로 보관
+ * - Caffeine (W-TinyLFU) 으로 메모리 사용량(추정 바이트) 기준 제한, 자주 조회되는 게시물이 남음
+ * - 게시물 / 댓글 변경은 트랜잭션 커밋 후 무효화 (BoardDetailCacheListener)
+ * - 조회 수는 DB 반영(BoardViewCounter.flush) 후 무효화, 반영 전 조회 수는 조회 시 더함
+ * - 캐시된 값은 공유되므로 수정하지 않음 (게시물은 복사해서 반환)
+ * - 캐시에 넣을 값은 primary 에서 조회 (복제 지연된 값이 무효화 후 다시 캐시되지 않도록, PrimaryReads)
+ */
+@Component
+public class BoardDetailCache {
+
+    // 객체 헤더, 날짜, ID 등 문자열 외 필드의 대략적인 크기 (바이트)
+    private static final int BOARD_OVERHEAD = 200;
+    private static final int COMMENT_OVERHEAD = 150;
+
+    private final boolean enabled;
+    private final Cache<Long, BoardQueryDto> boards;
+    private final Cache<Long, CommentPage> comments;
+
+    public BoardDetailCache(@Value("${board.detail-cache.enabled:true}") boolean enabled,
+                            @Value("${board.detail-cache.maximum-weight:67108864}") long maximumWeight,
+                            @Value("${board.detail-cache.ttl:10m}") Duration ttl) {
+        this.enabled = enabled;
+
+        this.boards = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight / 2)
+                .weigher((Long boardId, BoardQueryDto board) -> weigh(board))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        this.comments = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight / 2)
+                .weigher((Long boardId, CommentPage page) -> weigh(page))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 게시물 상세 (캐시에 없으면 loader 로 조회, 예외는 캐시하지 않음)
+    public BoardQueryDto getBoard(Long boardId, Function<Long, BoardQueryDto> loader) {
+        if (!enabled) {
+            return loader.apply(boardId);
+        }
+        return boards.get(boardId, id -> PrimaryReads.execute(() -> loader.apply(id))).copy();
+    }
+
+    /**
+     * 댓글 첫 페이지
+     * - 게시물마다 한 가지 페이지 크기만 보관, 크기가 다르면 다시 조회해서 교체
+     * - 조회 / 교체는 키 단위로 원자적 (조회 중 무효화는 저장이 끝난 뒤에 적용되므로 이전 페이지가 남지 않음)
+     */
+    public Page<CommentQueryDto> getFirstComments(Long boardId, int pageSize, Function<Long, Page<CommentQueryDto>> loader) {
+        if (!enabled) {
+            return loader.apply(boardId);
+        }
+
+        CommentPage cached = comments.get(boardId, id -> new CommentPage(pageSize, PrimaryReads.execute(() -> loader.apply(id))));
+        if (cached.pageSize == pageSize) {
+            return cached.page;
+        }
+
+        return comments.asMap().compute(boardId, (id, current) -> current != null && current.pageSize == pageSize
+                ? current
+                : new CommentPage(pageSize, PrimaryReads.execute(() -> loader.apply(id)))).page;
+    }
+
+    // 게시물 변경, 삭제
+    public void evictBoards(Collection<Long> boardIds) {
+        boards.invalidateAll(boardIds);
+        comments.invalidateAll(boardIds);
+    }
+
+    // 조회 수 반영
+    public void evictBoardsOnly(Collection<Long> boardIds) {
+        boards.invalidateAll(boardIds);
+    }
+
+    // 댓글 변경
+    public void evictComments(Long boardId) {
+        comments.invalidate(boardId);
+    }
+
+    public void clear() {
+        boards.invalidateAll();
+        comments.invalidateAll();
+    }
+
+    public List<CacheStatsDto> getStats() {
+        return Arrays.asList(
+                toDto("board", boards),
+                toDto("comments", comments)
+        );
+    }
+
+    private static CacheStatsDto toDto(String name, Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return CacheStatsDto.builder()
+                .name(name)
+                .size(cache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .evictionWeight(stats.evictionWeight())
+                .build();
+    }
+
+    // 문자열은 UTF-16 기준 (char 당 2바이트)
+    private static int weigh(BoardQueryDto board) {
+        return BOARD_OVERHEAD + 2 * (length(board.getTitle()) + length(board.getContent()) + length(board.getNickname()));
+    }
+
+    private static int weigh(CommentPage page) {
+        int weight = BOARD_OVERHEAD;
+        for (CommentQueryDto comment : page.page.getContent()) {
+            weight += COMMENT_OVERHEAD + 2 * (length(comment.getContent()) + length(comment.getNickname()));
+        }
+        return weight;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private static class CommentPage {
+
+        private final int pageSize;
+        private final Page<CommentQueryDto> page;
+
+        private CommentPage(int pageSize, Page<CommentQueryDto> page) {
+            this.pageSize = pageSize;
+            this.page = page;
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+package toyproject.board.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import toyproject.board.search.BoardChangedEvent;
+import toyproject.board.search.BoardDeletedEvent;
+
+import java.util.Collections;
+
+/**
+ * 게시물 상세 캐시 무효화
+ * - 커밋 전에 무효화하면 다른 요청이 변경 전 데이터를 다시 캐시할 수 있으므로 커밋 후에 무효화
+ */
+@RequiredArgsConstructor
+@Component
+public class BoardDetailCacheListener {
+
+    private final BoardDetailCache boardDetailCache;
+
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        boardDetailCache.evictBoards(Collections.singletonList(event.getBoard().getBoardId()));
+    }
+
+    @TransactionalEventListener
+    public void onBoardDeleted(BoardDeletedEvent event) {
+        boardDetailCache.evictBoards(event.getBoardIds());
+    }
+
+    @TransactionalEventListener
+    public void onCommentChanged(CommentChangedEvent event) {
+        boardDetailCache.evictComments(event.getBoardId());
+    }
+
+}
@@ -0,0 +1,193 @@
+package toyproject.board.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import toyproject.board.datasource.PrimaryReads;
+import toyproject.board.dto.board.query.BoardAndCommentCount;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 게시물 리스트 앞 페이지 스냅샷
+ * - 첫 N 페이지 (page < pages) 결과를 보관하고 요청은 스냅샷으로 응답 (DB 조회 없음)
+ * - 게시물 / 댓글 변경은 dirty 표시만 하고, 주기적으로(refresh-interval) 한 번에 다시 조회
+ * - 변경이 없어도 max-age 가 지나면 다시 조회 (조회 수 반영)
+ * - 스냅샷이 없는 페이지는 같은 페이지 요청끼리 한 번만 조회 (single-flight)
+ * - 조회는 읽기 전용 트랜잭션에서 실행 (요청 스레드, 스케줄러 어디서 호출해도 같은 트랜잭션 경계)
+ *   복제본이 아닌 primary 에서 조회 (복제 지연된 목록을 스냅샷으로 보관하지 않도록, PrimaryReads)
+ * - 조회 시작 순서(version)를 비교해서 먼저 시작한 조회가 나중 스냅샷을 덮어쓰지 않음
+ */
+@Component
+public class BoardListCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoardListCache.class);
+
+    // 페이지 크기 종류가 많아져도 스냅샷이 무한히 늘어나지 않도록 제한
+    private static final int MAX_ENTRIES = 64;
+
+    private final boolean enabled;
+    private final int pages;
+    private final long maxAgeMillis;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ConcurrentHashMap<Long, Entry> snapshot = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, CompletableFuture<Page<BoardAndCommentCount>>> loading = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    // 조회 시작, 변경 표시 순서
+    private final AtomicLong sequence = new AtomicLong();
+    private volatile long changedAt;
+
+    private volatile long refreshedAt = System.currentTimeMillis();
+
+    public BoardListCache(@Value("${board.list-cache.enabled:true}") boolean enabled,
+                          @Value("${board.list-cache.pages:3}") int pages,
+                          @Value("${board.list-cache.max-age:60s}") Duration maxAge,
+                          PlatformTransactionManager transactionManager) {
+        this.enabled = enabled;
+        this.pages = pages;
+        this.maxAgeMillis = maxAge.toMillis();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public boolean isCacheable(Pageable pageable) {
+        return enabled && pageable.getPageNumber() < pages;
+    }
+
+    public Page<BoardAndCommentCount> get(Pageable pageable, Function<Pageable, Page<BoardAndCommentCount>> loader) {
+
+        Long key = key(pageable);
+
+        Entry entry = snapshot.get(key);
+        if (entry != null) {
+            return entry.page;
+        }
+
+        return load(key, pageable, loader);
+    }
+
+    // 같은 페이지를 조회 중인 요청이 있으면 그 결과를 기다림
+    private Page<BoardAndCommentCount> load(Long key, Pageable pageable, Function<Pageable, Page<BoardAndCommentCount>> loader) {
+
+        CompletableFuture<Page<BoardAndCommentCount>> future = new CompletableFuture<>();
+        CompletableFuture<Page<BoardAndCommentCount>> inFlight = loading.putIfAbsent(key, future);
+        if (inFlight != null) {
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+
+        try {
+            long version = sequence.incrementAndGet();
+            Page<BoardAndCommentCount> page = execute(loader, pageable);
+            if (snapshot.size() < MAX_ENTRIES) {
+                snapshot.merge(key, new Entry(pageable, loader, page, version), Entry::newer);
+            }
+
+            // 조회 중에 변경되었고 그 사이 refresh 가 dirty 를 해제했으면 다음 주기에 다시 조회
+            if (changedAt > version) {
+                dirty.set(true);
+            }
+            future.complete(page);
+            return page;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    // 게시물 / 댓글 변경
+    public void markDirty() {
+        changedAt = sequence.incrementAndGet();
+        dirty.set(true);
+    }
+
+    /**
+     * dirty 이거나 max-age 가 지난 스냅샷을 다시 조회
+     * - 스케줄러가 한 스레드로 실행하므로 동시에 두 번 실행되지 않음
+     * - 조회 전에 dirty 를 해제하므로 조회 중 변경은 다음 주기에 반영
+     * - 조회에 실패한 페이지는 이전 스냅샷을 유지하고 다음 주기에 다시 시도
+     * - 조회 중에 더 나중에 조회한 스냅샷이 저장되었거나 clear() 되었으면 결과를 버림
+     */
+    @Scheduled(fixedDelayString = "${board.list-cache.refresh-interval:1000}")
+    public void refresh() {
+
+        if (!enabled || snapshot.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        boolean expired = now - refreshedAt >= maxAgeMillis;
+        if (!dirty.getAndSet(false) && !expired) {
+            return;
+        }
+        refreshedAt = now;
+
+        for (Map.Entry<Long, Entry> e : snapshot.entrySet()) {
+            Entry entry = e.getValue();
+            try {
+                long version = sequence.incrementAndGet();
+                Page<BoardAndCommentCount> page = execute(entry.loader, entry.pageable);
+                Entry refreshed = new Entry(entry.pageable, entry.loader, page, version);
+                snapshot.computeIfPresent(e.getKey(), (key, current) -> current.newer(refreshed));
+            } catch (RuntimeException ex) {
+                dirty.set(true);
+                logger.error("Failed to refresh board list: page {}", entry.pageable.getPageNumber(), ex);
+            }
+        }
+    }
+
+    public void clear() {
+        snapshot.clear();
+    }
+
+    private Page<BoardAndCommentCount> execute(Function<Pageable, Page<BoardAndCommentCount>> loader, Pageable pageable) {
+        return transactionTemplate.execute(status -> PrimaryReads.execute(() -> loader.apply(pageable)));
+    }
+
+    // 페이지 번호, 페이지 크기
+    private static Long key(Pageable pageable) {
+        return ((long) pageable.getPageNumber() << 32) | pageable.getPageSize();
+    }
+
+    private static class Entry {
+
+        private final Pageable pageable;
+        private final Function<Pageable, Page<BoardAndCommentCount>> loader;
+        private final Page<BoardAndCommentCount> page;
+        private final long version;
+
+        private Entry(Pageable pageable, Function<Pageable, Page<BoardAndCommentCount>> loader,
+                      Page<BoardAndCommentCount> page, long version) {
+            this.pageable = pageable;
+            this.loader = loader;
+            this.page = page;
+            this.version = version;
+        }
+
+        // 나중에 조회를 시작한 스냅샷
+        private Entry newer(Entry other) {
+            return other.version > version ? other : this;
+        }
+    }
+
+}
@@ -0,0 +1,32 @@
+package toyproject.board.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import toyproject.board.search.BoardChangedEvent;
+import toyproject.board.search.BoardDeletedEvent;
+
+// 게시물 리스트 스냅샷 dirty 표시 (커밋 후)
+@RequiredArgsConstructor
+@Component
+public class BoardListCacheListener {
+
+    private final BoardListCache boardListCache;
+
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        boardListCache.markDirty();
+    }
+
+    @TransactionalEventListener
+    public void onBoardDeleted(BoardDeletedEvent event) {
+        boardListCache.markDirty();
+    }
+
+    // 리스트에 댓글 수가 포함됨
+    @TransactionalEventListener
+    public void onCommentChanged(CommentChangedEvent event) {
+        boardListCache.markDirty();
+    }
+
+}
@@ -0,0 +1,16 @@
+package toyproject.board.cache;
+
+// 댓글 생성, 수정, 삭제 이벤트 (커밋 후 게시물의 댓글 캐시 무효화)
+public class CommentChangedEvent {
+
+    private final Long boardId;
+
+    public CommentChangedEvent(Long boardId) {
+        this.boardId = boardId;
+    }
+
+    public Long getBoardId() {
+        return boardId;
+    }
+
+}
@@ -0,0 +1,54 @@
+package toyproject.board.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+import toyproject.board.dto.metrics.CacheStatsDto;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 영역 통계 (l2cache 프로필)
+ * - 영역 크기, 만료 시간은 ehcache.xml 에서 설정
+ * - 2차 캐시나 통계가 비활성화되어 있으면 빈 리스트
+ */
+@RequiredArgsConstructor
+@Component
+public class EntityCacheRegions {
+
+    private static final List<String> REGIONS = Arrays.asList("member", "board", "comment");
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public List<CacheStatsDto> getStats() {
+
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        Statistics statistics = sessionFactory.getStatistics();
+        if (!sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()
+                || !statistics.isStatisticsEnabled()) {
+            return Collections.emptyList();
+        }
+
+        List<CacheStatsDto> result = new ArrayList<>();
+        for (String region : REGIONS) {
+            CacheRegionStatistics stats = statistics.getDomainDataRegionStatistics(region);
+            long requests = stats.getHitCount() + stats.getMissCount();
+
+            result.add(CacheStatsDto.builder()
+                    .name("entity." + region)
+                    .size(stats.getElementCountInMemory())
+                    .hitCount(stats.getHitCount())
+                    .missCount(stats.getMissCount())
+                    .hitRate(requests == 0 ? 1.0 : (double) stats.getHitCount() / requests)
+                    .build());
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,91 @@
+package toyproject.board.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import toyproject.board.datasource.Replica;
+import toyproject.board.datasource.ReplicaHealthChecker;
+import toyproject.board.datasource.ReplicaRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 복제본 라우팅 설정 (board.datasource.routing.enabled)
+ * - primary 는 spring.datasource, 복제본은 board.datasource.replica.urls (계정은 primary 와 동일)
+ * - 커넥션 풀 설정(spring.datasource.hikari.*)은 primary 에 바인딩하고 복제본도 같은 설정으로 생성
+ * - 트랜잭션이 끝나면 커넥션을 반납 (다음 트랜잭션이 readOnly 여부로 다시 라우팅되도록)
+ * - 비활성화하면 스프링 부트 기본 DataSource 사용
+ */
+@Configuration
+@ConditionalOnProperty(name = "board.datasource.routing.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    // 스프링 부트 기본 DataSource 와 같이 spring.datasource.hikari.* 를 바인딩
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                      @Value("${board.datasource.replica.urls:}") List<String> urls) {
+
+        List<Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            String name = "replica-" + i;
+
+            HikariConfig config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setJdbcUrl(urls.get(i).trim());
+            config.setPoolName(name);
+
+            replicas.add(new Replica(name, new HikariDataSource(config)));
+        }
+
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    // 트랜잭션 시작 시점이 아닌 첫 쿼리 시점에 커넥션을 가져와서 readOnly 여부로 라우팅
+    @Primary
+    @Bean
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * 트랜잭션마다 커넥션을 다시 가져오기
+     * - 스프링 기본값(DELAYED_ACQUISITION_AND_HOLD)은 EntityManager 가 닫힐 때까지 커넥션을 유지
+     * - open-in-view 로 요청 동안 EntityManager 가 유지되면 먼저 실행한 읽기 전용 트랜잭션의 복제본 커넥션으로
+     *   같은 요청의 쓰기 트랜잭션이 실행됨 (로그인 확인 후 수정 / 삭제 등)
+     */
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    @Bean
+    public ReplicaHealthChecker replicaHealthChecker(ReplicaRoutingDataSource routingDataSource,
+                                                     @Value("${board.datasource.replica.lag-query:}") String lagQuery,
+                                                     @Value("${board.datasource.replica.lag-column:Seconds_Behind_Master}") String lagColumn,
+                                                     @Value("${board.datasource.replica.max-lag:10}") long maxLagSeconds,
+                                                     @Value("${board.datasource.replica.health-check-timeout:2000}") long timeoutMillis) {
+        return new ReplicaHealthChecker(routingDataSource, lagQuery, lagColumn, maxLagSeconds, timeoutMillis);
+    }
+
+}
@@ -1,28 +1,88 @@
 package toyproject.board.config;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurationSupport;
+import toyproject.board.auth.LoginMemberArgumentResolver;
+import toyproject.board.auth.TokenProvider;
 import toyproject.board.interceptor.AuthInterceptor;
+import toyproject.board.interceptor.RateLimitInterceptor;
+import toyproject.board.interceptor.TokenAuthInterceptor;
+import toyproject.board.ratelimit.RateLimiter;
 
 import java.util.List;
 
+@RequiredArgsConstructor
 @Configuration
 public class MvcConfig extends WebMvcConfigurationSupport {
 
+    // 로그인이 필요한 경로 (운영 지표 /metrics/** 포함)
+    private static final String[] AUTH_PATHS = {
+            "/member/withdrawal", "/comment/import", "/board/export", "/metrics/**"
+    };
+
+    private final TokenProvider tokenProvider;
+
+    @Value("${board.async.request-timeout:10000}")
+    private long asyncRequestTimeout;
+
+    @Value("${board.rate-limit.enabled:true}")
+    private boolean rateLimitEnabled;
+    @Value("${board.rate-limit.max-clients:100000}")
+    private long rateLimitMaxClients;
+    @Value("${board.rate-limit.board-create.capacity:5}")
+    private long boardCreateCapacity;
+    @Value("${board.rate-limit.board-create.refill-per-minute:10}")
+    private long boardCreateRefillPerMinute;
+    @Value("${board.rate-limit.comment-create.capacity:10}")
+    private long commentCreateCapacity;
+    @Value("${board.rate-limit.comment-create.refill-per-minute:30}")
+    private long commentCreateRefillPerMinute;
+
     // 인터셉터 등록 메서드
     @Override
     protected void addInterceptors(InterceptorRegistry registry) {
+
+        // 쓰기 요청 속도 제한 : 비로그인 생성은 BCrypt 해시를 하므로 인증보다 먼저 거절
+        if (rateLimitEnabled) {
+            registry.addInterceptor(new RateLimitInterceptor(
+                            new RateLimiter(boardCreateCapacity, boardCreateRefillPerMinute, rateLimitMaxClients)))
+                    .addPathPatterns("/board/new");
+            registry.addInterceptor(new RateLimitInterceptor(
+                            new RateLimiter(commentCreateCapacity, commentCreateRefillPerMinute, rateLimitMaxClients)))
+                    .addPathPatterns("/comment/new");
+        }
+
+        // 토큰 모드 : 모든 요청에서 토큰이 있으면 검증, 로그인이 필요한 경로는 토큰 필수
+        if (tokenProvider.isTokenMode()) {
+            registry.addInterceptor(new TokenAuthInterceptor(tokenProvider, false))
+                    .addPathPatterns("/**")
+                    .excludePathPatterns(AUTH_PATHS);
+            registry.addInterceptor(new TokenAuthInterceptor(tokenProvider, true))
+                    .addPathPatterns(AUTH_PATHS);
+            return;
+        }
+
         registry.addInterceptor(new AuthInterceptor())
-                .addPathPatterns("/member/withdrawal");
+                .addPathPatterns(AUTH_PATHS);
     }
 
     // Pageable 기본 생성자 관련 메서드
     @Override
     protected void addArgumentResolvers(List<HandlerMethodArgumentResolver> argumentResolvers) {
         argumentResolvers.add(new PageableHandlerMethodArgumentResolver());
+        argumentResolvers.add(new LoginMemberArgumentResolver());
+    }
+
+    // 비동기 요청(CompletableFuture 반환) 타임아웃 (ms)
+    @Override
+    protected void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncRequestTimeout);
     }
 
 }
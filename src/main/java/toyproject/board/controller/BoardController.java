@@ -3,24 +3,37 @@ package toyproject.board.controller;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import toyproject.board.auth.Login;
+import toyproject.board.auth.LoginMember;
 import toyproject.board.domain.board.Board;
-import toyproject.board.domain.member.Member;
 import toyproject.board.dto.BasicResponseDto;
 import toyproject.board.dto.board.command.CreateBoardRequestDto;
 import toyproject.board.dto.board.command.DeleteBoardRequestDto;
 import toyproject.board.dto.board.command.UpdateBoardRequestDto;
 import toyproject.board.dto.board.query.BoardAndCommentCount;
-import toyproject.board.dto.board.query.BoardQueryDto;
+import toyproject.board.dto.board.query.BoardCursorSlice;
 import toyproject.board.dto.board.query.BoardSearchCondition;
+import toyproject.board.dto.board.response.BoardCursorListResponseDto;
 import toyproject.board.dto.board.response.BoardDetailResponseDto;
 import toyproject.board.dto.board.response.BoardListResponseDto;
 import toyproject.board.dto.board.response.BoardResponseDto;
-import toyproject.board.dto.comment.query.CommentQueryDto;
+import toyproject.board.dto.board.response.TrendingBoardListResponseDto;
+import toyproject.board.service.BoardDetailService;
+import toyproject.board.service.BoardExportService;
 import toyproject.board.service.BoardService;
-import toyproject.board.service.CommentService;
+import toyproject.board.service.PasswordHashingService;
+import toyproject.board.service.TrendingService;
+import toyproject.board.util.RequestUtils;
 
-import javax.servlet.ServletRequest;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.CompletableFuture;
 
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.OK;
@@ -31,26 +44,32 @@ import static org.springframework.http.HttpStatus.OK;
 public class BoardController {
 
     private final BoardService boardService;
-    private final CommentService commentService;
+    private final BoardDetailService boardDetailService;
+    private final BoardExportService boardExportService;
+    private final PasswordHashingService passwordHashingService;
+    private final TrendingService trendingService;
 
     @ResponseStatus(CREATED)
     @PostMapping("/new")
-    public BoardResponseDto createBoard(@RequestBody CreateBoardRequestDto dto,
-                                        @SessionAttribute(value = "member", required = false) Member member) {
+    public CompletableFuture<BoardResponseDto> createBoard(@RequestBody CreateBoardRequestDto dto,
+                                                           @Login LoginMember member) {
 
-        Long boardId = member != null
-                ? boardService.createBoard(dto.toDto(member))
-                : boardService.createBoard(dto.toDto());
+        // 비로그인은 비밀번호 해시가 필요하므로 전용 풀에서 처리
+        CompletableFuture<Long> boardId = member != null
+                ? CompletableFuture.completedFuture(boardService.createBoard(dto.toDto(member)))
+                : passwordHashingService.submit(() -> boardService.createBoard(dto.toDto()));
 
-        return BoardResponseDto.builder()
+        return boardId.thenApply(id -> BoardResponseDto.builder()
                 .httpStatus(CREATED)
-                .boardId(boardId)
-                .build();
+                .boardId(id)
+                .build());
     }
 
     @PostMapping("/delete")
-    public BasicResponseDto deleteBoard(@RequestBody DeleteBoardRequestDto dto,
-                                        @SessionAttribute(value = "member", required = false) Member member) {
+    public CompletableFuture<BasicResponseDto> deleteBoard(@RequestBody DeleteBoardRequestDto dto,
+                                                           @Login LoginMember member) {
+
+        CompletableFuture<Void> result;
 
         boolean isLoggedIn = boardService.isLoggedIn(dto.getId());
         if (isLoggedIn) {
@@ -59,19 +78,22 @@ public class BoardController {
             }
 
             boardService.deleteBoard(dto.toDto(member)); // 로그인 메서드
+            result = CompletableFuture.completedFuture(null);
 
         } else {
-            boardService.deleteBoard(dto.toDto()); // 비로그인 메서드
+            result = passwordHashingService.run(() -> boardService.deleteBoard(dto.toDto())); // 비로그인 메서드
         }
 
-        return BasicResponseDto.builder()
+        return result.thenApply(v -> BasicResponseDto.builder()
                 .httpStatus(OK)
-                .build();
+                .build());
     }
 
     @PostMapping("/update")
-    public BoardResponseDto updateBoard(@RequestBody UpdateBoardRequestDto dto,
-                                        @SessionAttribute(value = "member", required = false) Member member) {
+    public CompletableFuture<BoardResponseDto> updateBoard(@RequestBody UpdateBoardRequestDto dto,
+                                                           @Login LoginMember member) {
+
+        CompletableFuture<Void> result;
 
         boolean isLoggedIn = boardService.isLoggedIn(dto.getId());
         if (isLoggedIn) {
@@ -80,30 +102,31 @@ public class BoardController {
             }
 
             boardService.updateBoard(dto.toDto(member)); // 로그인 메서드
+            result = CompletableFuture.completedFuture(null);
 
         } else {
-            boardService.updateBoard(dto.toDto()); // 비로그인 메서드
+            result = passwordHashingService.run(() -> boardService.updateBoard(dto.toDto())); // 비로그인 메서드
         }
 
-        return BoardResponseDto.builder()
+        return result.thenApply(v -> BoardResponseDto.builder()
                 .httpStatus(OK)
                 .boardId(dto.getId())
-                .build();
+                .build());
     }
 
     @GetMapping("/{boardId}")
-    public BoardDetailResponseDto getBoardDetail(@SessionAttribute(name = "member", required = false) Member member,
-                                                 @PathVariable("boardId") Long boardId,
-                                                 Pageable pageable) {
-
-        BoardQueryDto board = boardService.getBoard(boardId, member);
-        Page<CommentQueryDto> comments = commentService.getCommentsPage(boardId, pageable);
-
-        return BoardDetailResponseDto.builder()
-                .httpStatus(OK)
-                .board(board)
-                .comments(comments)
-                .build();
+    public CompletableFuture<BoardDetailResponseDto> getBoardDetail(@Login LoginMember member,
+                                                                    @PathVariable("boardId") Long boardId,
+                                                                    Pageable pageable,
+                                                                    HttpServletRequest request) {
+
+        // 게시물, 댓글 페이지를 동시에 조회 (board.detail.parallel)
+        return boardDetailService.getBoardDetail(boardId, member, RequestUtils.getClientIp(request), pageable,
+                (board, comments) -> BoardDetailResponseDto.builder()
+                        .httpStatus(OK)
+                        .board(board)
+                        .comments(comments)
+                        .build());
     }
 
     @GetMapping("/list")
@@ -117,6 +140,57 @@ public class BoardController {
                 .build();
     }
 
+    // 커서 페이징 - 다음 페이지 (after 가 비어있으면 첫 페이지)
+    @GetMapping(value = "/list", params = {"after", "!before"})
+    public BoardCursorListResponseDto getBoardListAfter(@RequestParam("after") String after,
+                                                        Pageable pageable) {
+
+        BoardCursorSlice boardList = boardService.getBoardListByCursor(after, null, pageable);
+
+        return BoardCursorListResponseDto.builder()
+                .httpStatus(OK)
+                .boardList(boardList)
+                .build();
+    }
+
+    // 커서 페이징 - 이전 페이지 (before 가 비어있으면 마지막 페이지)
+    @GetMapping(value = "/list", params = "before")
+    public BoardCursorListResponseDto getBoardListBefore(@RequestParam("before") String before,
+                                                         Pageable pageable) {
+
+        BoardCursorSlice boardList = boardService.getBoardListByCursor(null, before, pageable);
+
+        return BoardCursorListResponseDto.builder()
+                .httpStatus(OK)
+                .boardList(boardList)
+                .build();
+    }
+
+    // 인기 게시물 (메모리 스냅샷, 최대 board.trending.size 개)
+    @GetMapping("/trending")
+    public TrendingBoardListResponseDto getTrendingBoardList(@RequestParam(value = "size", defaultValue = "10") int size) {
+        return TrendingBoardListResponseDto.builder()
+                .httpStatus(OK)
+                .boardList(trendingService.getTrending(size))
+                .build();
+    }
+
+    // 전체 게시물 내보내기 (NDJSON, comments=true 면 댓글 포함, 로그인 필요)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportBoards(@RequestParam(value = "comments", defaultValue = "false") boolean comments,
+                                                              HttpServletRequest request,
+                                                              HttpServletResponse response) {
+
+        // 내보내기는 board.async.request-timeout 보다 오래 걸리므로 이 요청만 타임아웃 변경
+        AsyncWebRequest asyncWebRequest = WebAsyncUtils.createAsyncWebRequest(request, response);
+        asyncWebRequest.setTimeout(boardExportService.getTimeout());
+        WebAsyncUtils.getAsyncManager(request).setAsyncWebRequest(asyncWebRequest);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(out -> boardExportService.export(comments, out));
+    }
+
     @GetMapping("/search")
     public BoardListResponseDto searchBoardList(BoardSearchCondition condition, Pageable pageable) {
 
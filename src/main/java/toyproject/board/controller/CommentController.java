@@ -1,17 +1,27 @@
 package toyproject.board.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import toyproject.board.auth.Login;
+import toyproject.board.auth.LoginMember;
 import toyproject.board.domain.comment.Comment;
-import toyproject.board.domain.member.Member;
 import toyproject.board.dto.BasicResponseDto;
+import toyproject.board.dto.comment.CommentImportChunkDto;
 import toyproject.board.dto.comment.command.CreateCommentRequestDto;
 import toyproject.board.dto.comment.command.DeleteCommentRequestDto;
 import toyproject.board.dto.comment.command.UpdateCommentRequestDto;
+import toyproject.board.dto.comment.response.CommentImportResponseDto;
 import toyproject.board.dto.comment.response.CommentResponseDto;
+import toyproject.board.service.CommentImportService;
 import toyproject.board.service.CommentService;
+import toyproject.board.service.PasswordHashingService;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.OK;
@@ -22,27 +32,44 @@ import static org.springframework.http.HttpStatus.OK;
 public class CommentController {
 
     private final CommentService commentService;
+    private final PasswordHashingService passwordHashingService;
+    private final CommentImportService commentImportService;
 
     @ResponseStatus(CREATED)
     @PostMapping("/new")
-    public CommentResponseDto createComment(@RequestBody CreateCommentRequestDto dto,
-                                            @SessionAttribute(value = "member", required = false) Member member) {
+    public CompletableFuture<CommentResponseDto> createComment(@RequestBody CreateCommentRequestDto dto,
+                                                               @Login LoginMember member) {
 
-        Long commentId = member != null
-                ? commentService.createComment(dto.toDto(member))
-                : commentService.createComment(dto.toDto());
+        // 비로그인은 비밀번호 해시가 필요하므로 전용 풀에서 처리
+        CompletableFuture<Long> commentId = member != null
+                ? CompletableFuture.completedFuture(commentService.createComment(dto.toDto(member)))
+                : passwordHashingService.submit(() -> commentService.createComment(dto.toDto()));
 
-        return CommentResponseDto.builder()
+        return commentId.thenApply(id -> CommentResponseDto.builder()
                 .httpStatus(CREATED)
-                .commentId(commentId)
+                .commentId(id)
+                .build());
+    }
+
+    // 댓글 대량 가져오기 (JSON 배열 또는 NDJSON, 로그인 필요)
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, "application/x-ndjson"})
+    public CommentImportResponseDto importComments(HttpServletRequest request) throws IOException {
+
+        List<CommentImportChunkDto> chunks = commentImportService.importComments(request.getInputStream());
+
+        return CommentImportResponseDto.builder()
+                .httpStatus(OK)
+                .imported(chunks.stream().mapToLong(CommentImportChunkDto::getImported).sum())
+                .skipped(chunks.stream().mapToLong(CommentImportChunkDto::getSkipped).sum())
+                .chunks(chunks)
                 .build();
     }
 
     @PostMapping("/update")
-    public CommentResponseDto updateComment(@RequestBody UpdateCommentRequestDto dto,
-                                            @SessionAttribute(value = "member", required = false) Member member) {
+    public CompletableFuture<CommentResponseDto> updateComment(@RequestBody UpdateCommentRequestDto dto,
+                                                               @Login LoginMember member) {
 
-        Long commentId;
+        CompletableFuture<Long> commentId;
 
         boolean isLoggedIn = commentService.isLoggedId(dto.getCommentId());
         if (isLoggedIn) {
@@ -50,21 +77,23 @@ public class CommentController {
                 throw new IllegalArgumentException("로그인이 필요합니다.");
             }
 
-            commentId = commentService.updateComment(dto.toDto(member)); // 로그인 메서드
+            commentId = CompletableFuture.completedFuture(commentService.updateComment(dto.toDto(member))); // 로그인 메서드
 
         } else {
-            commentId = commentService.updateComment(dto.toDto()); // 비로그인 메서드
+            commentId = passwordHashingService.submit(() -> commentService.updateComment(dto.toDto())); // 비로그인 메서드
         }
 
-        return CommentResponseDto.builder()
+        return commentId.thenApply(id -> CommentResponseDto.builder()
                 .httpStatus(OK)
-                .commentId(commentId)
-                .build();
+                .commentId(id)
+                .build());
     }
 
     @PostMapping("/delete")
-    public BasicResponseDto deleteComment(@RequestBody DeleteCommentRequestDto dto,
-                                          @SessionAttribute(value = "member", required = false) Member member) {
+    public CompletableFuture<BasicResponseDto> deleteComment(@RequestBody DeleteCommentRequestDto dto,
+                                                             @Login LoginMember member) {
+
+        CompletableFuture<Void> result;
 
         boolean isLoggedIn = commentService.isLoggedId(dto.getId());
         if (isLoggedIn) {
@@ -73,14 +102,15 @@ public class CommentController {
             }
 
             commentService.deleteComment(dto.toDto(member)); // 로그인 메서드
+            result = CompletableFuture.completedFuture(null);
 
         } else {
-            commentService.deleteComment(dto.toDto()); // 비로그인 메서드
+            result = passwordHashingService.run(() -> commentService.deleteComment(dto.toDto())); // 비로그인 메서드
         }
 
-        return BasicResponseDto.builder()
+        return result.thenApply(v -> BasicResponseDto.builder()
                 .httpStatus(OK)
-                .build();
+                .build());
     }
 
 }
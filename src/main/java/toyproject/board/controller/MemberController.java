@@ -4,20 +4,27 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.bind.support.SessionStatus;
-import toyproject.board.domain.member.Member;
+import toyproject.board.auth.Login;
+import toyproject.board.auth.LoginMember;
+import toyproject.board.auth.LoginMemberArgumentResolver;
+import toyproject.board.auth.TokenProvider;
 import toyproject.board.dto.BasicResponseDto;
 import toyproject.board.dto.board.query.BoardAndCommentCount;
 import toyproject.board.dto.board.query.BoardSearchCondition;
 import toyproject.board.dto.member.command.MemberRequestDto;
 import toyproject.board.dto.member.query.MemberQueryDto;
 import toyproject.board.dto.member.query.MemberSearchCondition;
+import toyproject.board.dto.member.response.LoginResponseDto;
 import toyproject.board.dto.member.response.MemberDetailResponseDto;
+import toyproject.board.dto.member.response.MemberSuggestResponseDto;
 import toyproject.board.service.BoardService;
 import toyproject.board.service.MemberService;
+import toyproject.board.service.PasswordHashingService;
+import toyproject.board.util.RequestUtils;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
+import java.util.concurrent.CompletableFuture;
 
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.OK;
@@ -29,46 +36,61 @@ public class MemberController {
 
     private final MemberService memberService;
     private final BoardService boardService;
+    private final PasswordHashingService passwordHashingService;
+    private final TokenProvider tokenProvider;
 
     @ResponseStatus(CREATED)
     @PostMapping("/new")
-    public BasicResponseDto join(@RequestBody MemberRequestDto dto) {
+    public CompletableFuture<BasicResponseDto> join(@RequestBody MemberRequestDto dto) {
 
-        memberService.join(dto);
-
-        return BasicResponseDto.builder()
-                .httpStatus(CREATED)
-                .build();
+        return passwordHashingService.submit(() -> memberService.join(dto))
+                .thenApply(memberId -> BasicResponseDto.builder()
+                        .httpStatus(CREATED)
+                        .build());
     }
 
     @PostMapping("/login")
-    public BasicResponseDto login(@RequestBody MemberRequestDto dto,
-                                  HttpSession session,
-                                  HttpServletRequest request) {
-
-        Member member = memberService.login(dto);
-        session.setAttribute("member", member);
+    public CompletableFuture<LoginResponseDto> login(@RequestBody MemberRequestDto dto,
+                                                     HttpServletRequest request) {
 
+        // request 는 요청 스레드에서만 읽고, 비밀번호 검증은 전용 풀에서 처리
         String userAgent = request.getHeader("User-Agent");
-        session.setAttribute("userAgent", userAgent);
 
-        String ip = request.getHeader("X-FORWARDED-FOR");
-        if (ip == null) {
-            ip = request.getRemoteAddr();
+        // 토큰 모드 : 세션을 만들지 않고 서명된 토큰을 발급
+        if (tokenProvider.isTokenMode()) {
+            return passwordHashingService.submit(() -> memberService.login(dto))
+                    .thenApply(member -> LoginResponseDto.builder()
+                            .httpStatus(OK)
+                            .token(tokenProvider.issue(LoginMember.from(member), userAgent))
+                            .build());
         }
-        session.setAttribute("ip", ip);
 
-        return BasicResponseDto.builder()
-                .httpStatus(OK)
-                .build();
+        HttpSession session = request.getSession();
+        String ip = RequestUtils.getClientIp(request);
+
+        return passwordHashingService.submit(() -> memberService.login(dto))
+                .thenApply(member -> {
+                    session.setAttribute(LoginMemberArgumentResolver.SESSION_KEY, LoginMember.from(member));
+                    session.setAttribute("userAgent", userAgent);
+                    session.setAttribute("ip", ip);
+
+                    return LoginResponseDto.builder()
+                            .httpStatus(OK)
+                            .build();
+                });
     }
 
     @PostMapping("/withdrawal")
-    public BasicResponseDto withdrawal(@SessionAttribute("member") Member member,
-                                       SessionStatus sessionStatus) {
+    public BasicResponseDto withdrawal(@Login LoginMember member,
+                                       HttpServletRequest request) {
 
         memberService.withdrawal(member.getId());
-        sessionStatus.setComplete();
+
+        // 로그인 세션 종료 (토큰은 만료될 때까지 남으므로 작성 시 탈퇴 여부를 확인)
+        HttpSession session = request.getSession(false);
+        if (session != null) {
+            session.invalidate();
+        }
 
         return BasicResponseDto.builder()
                 .httpStatus(OK)
@@ -98,4 +120,14 @@ public class MemberController {
         return memberService.searchMember(condition, pageable);
     }
 
+    // username 자동 완성 (@멘션)
+    @GetMapping("/suggest")
+    public MemberSuggestResponseDto suggestMember(@RequestParam("prefix") String prefix,
+                                                  @RequestParam(value = "size", defaultValue = "10") int size) {
+        return MemberSuggestResponseDto.builder()
+                .httpStatus(OK)
+                .members(memberService.suggestMember(prefix, size))
+                .build();
+    }
+
 }
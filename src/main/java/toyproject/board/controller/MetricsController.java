@@ -0,0 +1,76 @@
+package toyproject.board.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+import toyproject.board.cache.BoardDetailCache;
+import toyproject.board.cache.EntityCacheRegions;
+import toyproject.board.dto.BasicResponseDto;
+import toyproject.board.dto.metrics.CacheStatsDto;
+import toyproject.board.dto.metrics.response.CacheStatsResponseDto;
+import toyproject.board.dto.metrics.response.LatencyResponseDto;
+import toyproject.board.dto.metrics.response.MemberPurgeResponseDto;
+import toyproject.board.metrics.LatencyMetrics;
+import toyproject.board.scheduler.MemberPurgeJob;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.http.HttpStatus.OK;
+
+// 운영 지표 (로그인 필요, MvcConfig.AUTH_PATHS)
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/metrics")
+public class MetricsController {
+
+    private final LatencyMetrics latencyMetrics;
+    private final BoardDetailCache boardDetailCache;
+    private final EntityCacheRegions entityCacheRegions;
+    private final MemberPurgeJob memberPurgeJob;
+
+    // 핸들러별 응답 시간 (마이크로초)
+    @GetMapping("/latency")
+    public LatencyResponseDto getLatency() {
+        return LatencyResponseDto.builder()
+                .httpStatus(OK)
+                .latencies(latencyMetrics.getLatencies())
+                .build();
+    }
+
+    // 게시물 상세 캐시, 2차 캐시(l2cache 프로필) 적중률, 제거 횟수
+    @GetMapping("/cache")
+    public CacheStatsResponseDto getCacheStats() {
+
+        List<CacheStatsDto> caches = new ArrayList<>(boardDetailCache.getStats());
+        caches.addAll(entityCacheRegions.getStats());
+
+        return CacheStatsResponseDto.builder()
+                .httpStatus(OK)
+                .caches(caches)
+                .build();
+    }
+
+    // 탈퇴 멤버 정리 진행 상태
+    @GetMapping("/member-purge")
+    public MemberPurgeResponseDto getMemberPurge() {
+        return MemberPurgeResponseDto.builder()
+                .httpStatus(OK)
+                .pendingMembers(memberPurgeJob.getPendingMembers())
+                .currentMemberId(memberPurgeJob.getCurrentMemberId())
+                .purgedMembers(memberPurgeJob.getPurgedMembers())
+                .deletedBoards(memberPurgeJob.getDeletedBoards())
+                .deletedComments(memberPurgeJob.getDeletedComments())
+                .build();
+    }
+
+    @PostMapping("/latency/reset")
+    public BasicResponseDto resetLatency() {
+
+        latencyMetrics.reset();
+
+        return BasicResponseDto.builder()
+                .httpStatus(OK)
+                .build();
+    }
+
+}
@@ -0,0 +1,36 @@
+package toyproject.board.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션이어도 primary 에서 읽기 (ReplicaRoutingDataSource)
+ * - 캐시를 채우는 조회에 사용 : 커밋 후 캐시를 무효화해도 복제 지연된 복제본에서 다시 읽으면 변경 전 값이 다시 캐시됨
+ * - 커넥션을 실제로 가져올 때 판단하므로, 트랜잭션에서 이미 커넥션을 가져왔으면 그 커넥션을 그대로 사용
+ * - 라우팅이 비활성화되어 있으면 아무 영향 없음
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Integer> depth = ThreadLocal.withInitial(() -> 0);
+
+    private PrimaryReads() {
+    }
+
+    public static <T> T execute(Supplier<T> task) {
+        depth.set(depth.get() + 1);
+        try {
+            return task.get();
+        } finally {
+            int current = depth.get() - 1;
+            if (current == 0) {
+                depth.remove();
+            } else {
+                depth.set(current);
+            }
+        }
+    }
+
+    public static boolean isActive() {
+        return depth.get() > 0;
+    }
+
+}
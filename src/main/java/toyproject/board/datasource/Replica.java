@@ -0,0 +1,43 @@
+package toyproject.board.datasource;
+
+import javax.sql.DataSource;
+
+// 복제본 DataSource 와 상태 (ReplicaHealthChecker 가 갱신)
+public class Replica {
+
+    private final String name;
+    private final DataSource dataSource;
+
+    private volatile boolean healthy = true;
+    private volatile long lagSeconds;
+
+    public Replica(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    // 상태가 바뀌면 true
+    public boolean update(boolean healthy, long lagSeconds) {
+        boolean changed = this.healthy != healthy;
+        this.healthy = healthy;
+        this.lagSeconds = lagSeconds;
+        return changed;
+    }
+
+}
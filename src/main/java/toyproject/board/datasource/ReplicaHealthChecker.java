@@ -0,0 +1,147 @@
+package toyproject.board.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 복제본 상태 확인
+ * - 커넥션을 가져올 수 없거나 복제 지연(lag-query 결과)이 max-lag 초를 넘으면 라우팅에서 제외
+ * - 다시 정상이 되면 자동으로 포함
+ * - lag-query 가 비어 있으면 연결만 확인
+ * - 확인은 전용 스레드(replica-health)에서 실행하고 스케줄러는 최대 timeout 까지만 기다림
+ *   (죽은 복제본의 커넥션 풀은 connectionTimeout 동안 막히므로 공용 스케줄러 스레드를 붙잡지 않도록)
+ *   timeout 안에 끝나지 않으면 제외하고, 이전 확인이 끝날 때까지 새 확인은 시작하지 않음
+ */
+public class ReplicaHealthChecker implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaHealthChecker.class);
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final long maxLagSeconds;
+    private final long timeoutMillis;
+
+    private final ExecutorService executor;
+    private final Map<String, Future<?>> running = new ConcurrentHashMap<>();
+
+    public ReplicaHealthChecker(ReplicaRoutingDataSource routingDataSource, String lagQuery, String lagColumn,
+                                long maxLagSeconds, long timeoutMillis) {
+        this.routingDataSource = routingDataSource;
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.maxLagSeconds = maxLagSeconds;
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${board.datasource.replica.health-check-interval:5000}")
+    public void check() {
+
+        Map<Replica, Future<?>> checks = new LinkedHashMap<>();
+        for (Replica replica : routingDataSource.getReplicas()) {
+            Future<?> previous = running.get(replica.getName());
+            if (previous != null && !previous.isDone()) {
+                timedOut(replica); // 이전 확인이 아직 막혀 있음
+                continue;
+            }
+
+            Future<?> future = executor.submit(() -> check(replica));
+            running.put(replica.getName(), future);
+            checks.put(replica, future);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        for (Map.Entry<Replica, Future<?>> entry : checks.entrySet()) {
+            try {
+                entry.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                timedOut(entry.getKey());
+            } catch (ExecutionException e) {
+                logger.error("복제본 상태 확인 실패 : {}", entry.getKey().getName(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void timedOut(Replica replica) {
+        if (replica.update(false, Long.MAX_VALUE)) {
+            logger.warn("복제본 제외 : {} ({}ms 안에 응답 없음)", replica.getName(), timeoutMillis);
+        }
+    }
+
+    public void check(Replica replica) {
+
+        boolean healthy;
+        long lag;
+
+        try (Connection connection = replica.getDataSource().getConnection()) {
+            lag = connection.isValid(VALIDATION_TIMEOUT_SECONDS) ? readLag(connection) : Long.MAX_VALUE;
+            healthy = lag <= maxLagSeconds;
+        } catch (SQLException e) {
+            lag = Long.MAX_VALUE;
+            healthy = false;
+        }
+
+        if (replica.update(healthy, lag)) {
+            if (healthy) {
+                logger.info("복제본 복구 : {}", replica.getName());
+            } else {
+                logger.warn("복제본 제외 : {} (lag={})", replica.getName(), lag == Long.MAX_VALUE ? "unknown" : lag + "s");
+            }
+        }
+    }
+
+    // 복제 지연 (초), 복제가 멈춰 있으면 (NULL) 알 수 없음
+    private long readLag(Connection connection) throws SQLException {
+
+        if (!StringUtils.hasText(lagQuery)) {
+            return 0;
+        }
+
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+
+            if (!resultSet.next()) {
+                return 0;
+            }
+
+            long lag = resultSet.getLong(lagColumn);
+            return resultSet.wasNull() ? Long.MAX_VALUE : lag;
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+}
@@ -0,0 +1,86 @@
+package toyproject.board.datasource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 / 쓰기 분리 DataSource
+ * - 읽기 전용 트랜잭션 (@Transactional(readOnly = true)) 은 정상 상태의 복제본 중 하나로 (라운드 로빈)
+ * - 그 외 (쓰기 트랜잭션, 트랜잭션 밖, PrimaryReads 안) 와 정상 복제본이 없을 때는 primary 로
+ * - 트랜잭션의 readOnly 여부는 커넥션을 실제로 가져올 때 판단하므로 LazyConnectionDataSourceProxy 로 감싸서 사용
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    public static final String PRIMARY = "primary";
+
+    private final List<Replica> replicas;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<Replica> replicas) {
+        this.replicas = Collections.unmodifiableList(replicas);
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach(replica -> targets.put(replica.getName(), replica.getDataSource()));
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PrimaryReads.isActive()) {
+            return PRIMARY;
+        }
+
+        Replica replica = nextReplica();
+        return replica != null ? replica.getName() : PRIMARY;
+    }
+
+    // 정상 상태인 다음 복제본 (없으면 null)
+    private Replica nextReplica() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+
+        int start = Math.floorMod(sequence.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isHealthy()) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    // 복제본 커넥션 풀 종료 (primary 는 빈으로 등록되어 있으므로 스프링이 종료)
+    @Override
+    public void destroy() throws IOException {
+        for (Replica replica : replicas) {
+            close(replica.getDataSource());
+        }
+    }
+
+    private static void close(DataSource dataSource) throws IOException {
+        if (dataSource instanceof Closeable) {
+            ((Closeable) dataSource).close();
+        }
+    }
+
+}
@@ -0,0 +1,50 @@
+package toyproject.board.domain;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+
+/**
+ * PooledIdGenerator 구간 초기화
+ * - IDENTITY 로 생성된 기존 데이터가 있으면 ID 가 겹치지 않도록 각 구간의 다음 값을 MAX(id) + 1 이상으로 맞춤
+ * - 여러 번 실행해도 결과가 같음 (이미 더 큰 값이면 유지)
+ * - 스키마 생성(ddl-auto) 이후에 실행되도록 entityManagerFactory 이후에 초기화
+ */
+@RequiredArgsConstructor
+@DependsOn("entityManagerFactory")
+@Component
+public class IdSequenceInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdSequenceInitializer.class);
+
+    private static final String[][] SEGMENTS = {
+            {"member", "member", "member_id"},
+            {"board", "board", "board_id"},
+            {"comment", "comment", "comment_id"}
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void init() {
+
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS hibernate_sequences (" +
+                "sequence_name VARCHAR(255) NOT NULL, " +
+                "next_val BIGINT, " +
+                "PRIMARY KEY (sequence_name))");
+
+        for (String[] segment : SEGMENTS) {
+            jdbcTemplate.update("INSERT INTO hibernate_sequences (sequence_name, next_val) " +
+                    "SELECT ?, COALESCE(MAX(" + segment[2] + "), 0) + 1 FROM " + segment[1] + " " +
+                    "ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val))", segment[0]);
+        }
+
+        logger.info("ID 구간 초기화 완료");
+    }
+
+}
@@ -0,0 +1,37 @@
+package toyproject.board.domain;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+/**
+ * 테이블 기반 ID 생성기 (pooled-lo)
+ * - IDENTITY 는 INSERT 를 실행해야 ID 를 알 수 있어 JDBC 배치 INSERT 가 불가능
+ * - hibernate_sequences 테이블에서 allocation-size 만큼 ID 구간을 한 번에 가져오고 메모리에서 하나씩 할당
+ * - 구간 크기는 spring.jpa.properties.board.id.allocation-size 로 설정 (기본 50)
+ * - 엔티티마다 segment_value 로 구간을 나눔
+ */
+public class PooledIdGenerator extends TableGenerator {
+
+    public static final String ALLOCATION_SIZE = "board.id.allocation-size";
+
+    private static final String DEFAULT_ALLOCATION_SIZE = "50";
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+
+        Object allocationSize = serviceRegistry.getService(ConfigurationService.class)
+                .getSettings()
+                .getOrDefault(ALLOCATION_SIZE, DEFAULT_ALLOCATION_SIZE);
+
+        params.setProperty(INCREMENT_PARAM, allocationSize.toString());
+        params.setProperty(OPT_PARAM, "pooled-lo");
+
+        super.configure(type, params, serviceRegistry);
+    }
+
+}
@@ -4,8 +4,14 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import toyproject.board.domain.BaseEntity;
 import toyproject.board.domain.member.Member;
+import toyproject.board.dto.board.query.BoardIndexDto;
 import toyproject.board.dto.board.query.BoardQueryDto;
 
 import javax.persistence.*;
@@ -14,11 +20,17 @@ import static javax.persistence.FetchType.LAZY;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@DynamicUpdate
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "board")
+@Table(indexes = @Index(name = "idx_board_created_date", columnList = "created_date, board_id"))
 @Getter
 public class Board extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "board_id")
+    @GenericGenerator(name = "board_id", strategy = "toyproject.board.domain.PooledIdGenerator",
+            parameters = @Parameter(name = "segment_value", value = "board"))
     @Column(name = "board_id")
     private Long id;
 
@@ -28,6 +40,14 @@ public class Board extends BaseEntity {
     @Column(nullable = false)
     private String title;
 
+    /**
+     * 댓글 수 (비정규화)
+     * - 댓글 생성, 삭제 시 벌크 쿼리로 갱신
+     * - CommentCountReconciler 가 주기적으로 실제 댓글 수와 맞춤
+     */
+    @Column(nullable = false)
+    private Long commentCount;
+
     @Column(columnDefinition = "TEXT", nullable = false)
     private String content;
 
@@ -49,6 +69,7 @@ public class Board extends BaseEntity {
         this.nickname = nickname;
         this.password = password;
         this.views = 0;
+        this.commentCount = 0L;
     }
 
     //=====수정 메서드=====//
@@ -60,10 +81,6 @@ public class Board extends BaseEntity {
         this.content = content;
     }
 
-    public void updateViews() {
-        this.views += 1;
-    }
-
     //=====DTO 생성 메서드=====//
     public BoardQueryDto toQueryDto() {
 
@@ -83,4 +100,15 @@ public class Board extends BaseEntity {
         return builder.build();
     }
 
+    public BoardIndexDto toIndexDto() {
+        return BoardIndexDto.builder()
+                .boardId(id)
+                .title(title)
+                .content(content)
+                .nickname(nickname)
+                .memberId(member != null ? member.getId() : null)
+                .createdDate(this.getCreatedDate())
+                .build();
+    }
+
 }
@@ -1,7 +1,18 @@
 package toyproject.board.domain.board;
 
+import java.util.List;
+import java.util.Map;
+
 public interface BoardRepositoryCustom {
 
-    void deleteByMemberId(Long memberId);
+    void deleteByIdList(List<Long> boardIdList);
+
+    void addCommentCount(Long boardId, long delta);
+
+    void addViews(Map<Long, Long> views);
+
+    long reconcileCommentCount(Long fromId, Long toId);
+
+    Long findMaxId();
 
 }
@@ -1,7 +1,21 @@
 package toyproject.board.domain.board;
 
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static toyproject.board.domain.board.QBoard.board;
 import static toyproject.board.domain.comment.QComment.comment;
@@ -10,13 +24,109 @@ import static toyproject.board.domain.comment.QComment.comment;
 public class BoardRepositoryImpl implements BoardRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    /**
+     * 게시물 ID 로 삭제 (탈퇴 정리, 댓글은 먼저 삭제)
+     * - DELETE FROM board WHERE board_id IN (...)
+     */
+    @Override
+    public void deleteByIdList(List<Long> boardIdList) {
+        if (boardIdList.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.update("DELETE FROM board WHERE board_id IN (" + placeholders(boardIdList.size()) + ")",
+                boardIdList.toArray());
+        evictAfterCommit(boardIdList);
+    }
+
+    /**
+     * 댓글 수 증감
+     * - UPDATE board SET comment_count = comment_count + :delta WHERE board_id = :boardId
+     */
+    @Override
+    public void addCommentCount(Long boardId, long delta) {
+        jdbcTemplate.update("UPDATE board SET comment_count = comment_count + ? WHERE board_id = ?", delta, boardId);
+        evictAfterCommit(Collections.singletonList(boardId));
+    }
+
+    // 게시물별 조회 수 증가 (JDBC 배치)
+    @Override
+    public void addViews(Map<Long, Long> views) {
+        List<Object[]> args = views.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .collect(Collectors.toList());
+
+        jdbcTemplate.batchUpdate("UPDATE board SET views = views + ? WHERE board_id = ?", args);
+        evictAfterCommit(views.keySet());
+    }
 
+    /**
+     * ID 범위 안에서 댓글 수 컬럼이 실제 댓글 수와 다른 게시물을 보정
+     * - 어긋난 게시물 ID 를 먼저 조회하고 그 게시물만 갱신 (2차 캐시에서 보정한 게시물만 제거)
+     * - 보정된 게시물 수를 반환
+     */
     @Override
-    public void deleteByMemberId(Long memberId) {
-        queryFactory
-                .delete(board)
-                .where(board.member.id.eq(memberId))
-                .execute();
+    public long reconcileCommentCount(Long fromId, Long toId) {
+        JPQLQuery<Long> actualCount = JPAExpressions
+                .select(comment.count())
+                .from(comment)
+                .where(comment.board.id.eq(board.id));
+
+        List<Long> boardIdList = queryFactory
+                .select(board.id)
+                .from(board)
+                .where(board.id.between(fromId, toId),
+                        board.commentCount.ne(actualCount))
+                .fetch();
+
+        if (boardIdList.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.update("UPDATE board b"
+                        + " SET comment_count = (SELECT COUNT(*) FROM comment c WHERE c.board_id = b.board_id)"
+                        + " WHERE b.board_id IN (" + placeholders(boardIdList.size()) + ")",
+                boardIdList.toArray());
+        evictAfterCommit(boardIdList);
+
+        return boardIdList.size();
+    }
+
+    @Override
+    public Long findMaxId() {
+        return queryFactory
+                .select(board.id.max())
+                .from(board)
+                .fetchOne();
+    }
+
+    /**
+     * JDBC 로 직접 갱신한 게시물을 커밋 후 2차 캐시에서 제거
+     * - Hibernate 벌크 쿼리(HQL)는 board 영역 전체를 비우므로 사용하지 않음
+     * - 커밋 전에 제거하면 다른 트랜잭션이 변경 전 값을 다시 캐시할 수 있음
+     */
+    private void evictAfterCommit(Collection<Long> boardIds) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        List<Long> evicted = new ArrayList<>(boardIds);
+        Runnable evict = () -> evicted.forEach(boardId -> cache.evict(Board.class, boardId));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict.run();
+                }
+            });
+        } else {
+            evict.run();
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
     }
 
 }
@@ -2,10 +2,15 @@ package toyproject.board.domain.board.query;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import toyproject.board.dto.board.query.BoardAndCommentCount;
+import toyproject.board.dto.board.query.BoardCursor;
+import toyproject.board.dto.board.query.BoardIndexDto;
 import toyproject.board.dto.board.query.BoardSearchCondition;
 import toyproject.board.dto.CheckPasswordDto;
+import toyproject.board.dto.IdAndNameDto;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface BoardQueryRepositoryCustom {
@@ -14,8 +19,18 @@ public interface BoardQueryRepositoryCustom {
 
     Page<BoardAndCommentCount> getBoardList(Pageable pageable);
 
+    Slice<BoardAndCommentCount> getBoardListByCursor(BoardCursor cursor, boolean isNext, Pageable pageable);
+
     Page<BoardAndCommentCount> searchBoard(BoardSearchCondition condition, Pageable pageable);
 
-    List<Long> findAllBoardIdByMemberId(Long memberId);
+    List<Long> findIdsByMemberId(Long memberId, int limit);
+
+    List<Long> findExistingIds(Collection<Long> boardIds);
+
+    List<BoardAndCommentCount> findBoardListByIds(Collection<Long> boardIds);
+
+    List<BoardIndexDto> findIndexChunk(Long lastBoardId, int size);
+
+    List<IdAndNameDto> findNicknameChunk(Long lastBoardId, int size);
 
 }
\ No newline at end of file
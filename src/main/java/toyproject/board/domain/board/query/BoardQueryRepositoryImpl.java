@@ -1,6 +1,5 @@
 package toyproject.board.domain.board.query;
 
-import com.querydsl.core.QueryResults;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -8,19 +7,41 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
+import toyproject.board.cache.BoardCountCache;
+import toyproject.board.cache.BoardCountKey;
 import toyproject.board.dto.CheckPasswordDto;
+import toyproject.board.dto.IdAndNameDto;
 import toyproject.board.dto.QCheckPasswordDto;
+import toyproject.board.dto.QIdAndNameDto;
 import toyproject.board.dto.board.query.*;
+import toyproject.board.search.BoardSearchIndex;
+import toyproject.board.search.NameSearchIndex;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static toyproject.board.domain.board.QBoard.board;
-import static toyproject.board.domain.comment.QComment.comment;
 
 @RequiredArgsConstructor
 public class BoardQueryRepositoryImpl implements BoardQueryRepositoryCustom {
 
+    // 이름 색인 결과가 이보다 많으면 IN 대신 LIKE 사용
+    private static final int MAX_NICKNAME_IDS = 1000;
+
     private final JPAQueryFactory queryFactory;
+    private final BoardCountCache boardCountCache;
+    private final BoardSearchIndex boardSearchIndex;
+    private final NameSearchIndex nameSearchIndex;
 
     @Override
     public CheckPasswordDto findPassword(Long boardId) {
@@ -34,79 +55,245 @@ public class BoardQueryRepositoryImpl implements BoardQueryRepositoryCustom {
                 .fetchOne();
     }
 
+    /**
+     * 게시물 리스트 조회
+     * - 첫 페이지가 가득 차지 않으면 count 쿼리를 생략
+     * - count 는 board 테이블만 조회하고 BoardCountCache 에 잠시 보관
+     */
     @Override
     public Page<BoardAndCommentCount> getBoardList(Pageable pageable) {
-        QueryResults<BoardAndCommentCount> results = queryFactory
-                .select(new QBoardAndCommentCount(
-                        board.id,
-                        board.views,
-                        board.title,
-                        board.nickname,
-                        board.member.id,
-                        comment.id.count(),
-                        board.createdDate,
-                        board.lastModifiedDate
-                ))
+        List<BoardAndCommentCount> content = queryFactory
+                .select(boardAndCommentCount())
                 .from(board)
-                    .leftJoin(comment)
-                    .on(comment.board.id.eq(board.id))
-                .groupBy(board.id)
                 .orderBy(board.createdDate.desc())
                 .limit(pageable.getPageSize())
                 .offset(pageable.getOffset())
-                .fetchResults();
+                .fetch();
+
+        return PageableExecutionUtils.getPage(content, pageable, this::countBoardList);
+    }
+
+    /**
+     * 커서 기반 게시물 리스트 조회
+     * - OFFSET 없이 (생성 일, 게시물 ID) 조건으로 조회하므로 페이지 깊이와 관계없이 일정한 성능
+     * - isNext 가 false 이면 커서 이전 게시물을 오름차순으로 조회한 뒤 뒤집어서 반환
+     */
+    @Override
+    public Slice<BoardAndCommentCount> getBoardListByCursor(BoardCursor cursor, boolean isNext, Pageable pageable) {
+        int size = pageable.getPageSize();
 
-        List<BoardAndCommentCount> content = results.getResults();
-        long total = results.getTotal();
+        List<BoardAndCommentCount> content = queryFactory
+                .select(boardAndCommentCount())
+                .from(board)
+                .where(cursorCondition(cursor, isNext))
+                .orderBy(orderByCursor(isNext))
+                .limit(size + 1)
+                .fetch();
+
+        boolean hasMore = content.size() > size;
+        if (hasMore) {
+            content = new ArrayList<>(content.subList(0, size));
+        }
 
-        return new PageImpl<>(content, pageable, total);
+        if (!isNext) {
+            Collections.reverse(content);
+        }
+
+        return new SliceImpl<>(content, pageable, hasMore);
     }
 
     @Override
     public Page<BoardAndCommentCount> searchBoard(BoardSearchCondition condition, Pageable pageable) {
-        QueryResults<BoardAndCommentCount> results = queryFactory
-                .select(new QBoardAndCommentCount(
-                        board.id,
-                        board.views,
-                        board.content,
-                        board.nickname,
-                        board.member.id,
-                        comment.id.count(),
-                        board.createdDate,
-                        board.lastModifiedDate
-                ))
+
+        // 제목, 내용 검색은 LIKE '%..%' 대신 검색 색인 사용
+        if (boardSearchIndex.isEnabled() && (condition.getTitle() != null || condition.getContent() != null)) {
+            return searchBoardByIndex(condition, pageable);
+        }
+
+        List<BoardAndCommentCount> content = queryFactory
+                .select(boardAndCommentCount())
                 .from(board)
-                .leftJoin(comment)
-                .on(comment.board.id.eq(board.id))
                 .where(nicknameLike(condition.getNickname()),
                         titleLike(condition.getTitle()),
                         contentLike(condition.getContent()),
                         memberIdEq(condition.getMemberId()))
-                .groupBy(board.id)
                 .orderBy(orderByCreatedDate(condition.getIsAsc()))
                 .limit(pageable.getPageSize())
                 .offset(pageable.getOffset())
-                .fetchResults();
+                .fetch();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> countSearchBoard(condition));
+    }
 
-        List<BoardAndCommentCount> content = results.getResults();
-        long total = results.getTotal();
+    /**
+     * 검색 색인으로 게시물 검색
+     * - 색인에서 현재 페이지의 게시물 ID 와 전체 개수를 구하고, 게시물은 PK 로 조회
+     */
+    private Page<BoardAndCommentCount> searchBoardByIndex(BoardSearchCondition condition, Pageable pageable) {
 
-        return new PageImpl<>(content, pageable, total);
+        BoardSearchIndex.SearchResult result =
+                boardSearchIndex.search(condition, pageable.getOffset(), pageable.getPageSize());
+
+        List<Long> boardIds = result.getBoardIds();
+        if (boardIds.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, result.getTotalHits());
+        }
+
+        Map<Long, BoardAndCommentCount> boards = queryFactory
+                .select(boardAndCommentCount())
+                .from(board)
+                .where(board.id.in(boardIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(BoardAndCommentCount::getBoardId, Function.identity()));
+
+        // 색인의 정렬 순서 유지
+        List<BoardAndCommentCount> content = boardIds.stream()
+                .map(boards::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        return new PageImpl<>(content, pageable, result.getTotalHits());
     }
 
+    // 게시물 리스트, 검색 결과 공통 프로젝션 (LIKE 검색과 색인 검색이 같은 필드를 반환하도록)
+    private static QBoardAndCommentCount boardAndCommentCount() {
+        return new QBoardAndCommentCount(
+                board.id,
+                board.views,
+                board.title,
+                board.nickname,
+                board.member.id,
+                board.commentCount,
+                board.createdDate,
+                board.lastModifiedDate
+        );
+    }
+
+    private long countBoardList() {
+        return boardCountCache.get(BoardCountKey.list(), () -> queryFactory
+                .select(board.count())
+                .from(board)
+                .fetchOne());
+    }
+
+    private long countSearchBoard(BoardSearchCondition condition) {
+        return boardCountCache.get(BoardCountKey.search(condition), () -> queryFactory
+                .select(board.count())
+                .from(board)
+                .where(nicknameLike(condition.getNickname()),
+                        titleLike(condition.getTitle()),
+                        contentLike(condition.getContent()),
+                        memberIdEq(condition.getMemberId()))
+                .fetchOne());
+    }
+
+    // 유저가 작성한 게시물 ID (탈퇴 정리)
     @Override
-    public List<Long> findAllBoardIdByMemberId(Long memberId) {
+    public List<Long> findIdsByMemberId(Long memberId, int limit) {
         return queryFactory
                 .select(board.id)
                 .from(board)
                 .where(board.member.id.eq(memberId))
+                .orderBy(board.id.asc())
+                .limit(limit)
                 .fetch();
     }
 
+    /**
+     * 존재하는 게시물 ID 만 조회 (댓글 가져오기 검증)
+     * - SELECT board.board_id FROM board WHERE board.board_id IN (...)
+     */
+    @Override
+    public List<Long> findExistingIds(Collection<Long> boardIds) {
+        if (boardIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return queryFactory
+                .select(board.id)
+                .from(board)
+                .where(board.id.in(boardIds))
+                .fetch();
+    }
+
+    /**
+     * 게시물 ID 목록으로 리스트 DTO 조회 (인기 게시물, 순서는 호출한 쪽에서 맞춤)
+     * - SELECT ... FROM board WHERE board.board_id IN (...)
+     */
+    @Override
+    public List<BoardAndCommentCount> findBoardListByIds(Collection<Long> boardIds) {
+        if (boardIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return queryFactory
+                .select(boardAndCommentCount())
+                .from(board)
+                .where(board.id.in(boardIds))
+                .fetch();
+    }
+
+    /**
+     * 검색 색인용 게시물 조회 (게시물 ID 순)
+     * - lastBoardId 보다 큰 ID 의 게시물을 size 개 조회
+     */
+    @Override
+    public List<BoardIndexDto> findIndexChunk(Long lastBoardId, int size) {
+        return queryFactory
+                .select(new QBoardIndexDto(
+                        board.id,
+                        board.title,
+                        board.content,
+                        board.nickname,
+                        board.member.id,
+                        board.createdDate
+                ))
+                .from(board)
+                .where(board.id.gt(lastBoardId))
+                .orderBy(board.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    /**
+     * 이름 색인용 작성자 조회 (게시물 ID 순)
+     * - lastBoardId 보다 큰 ID 의 게시물을 size 개 조회
+     */
+    @Override
+    public List<IdAndNameDto> findNicknameChunk(Long lastBoardId, int size) {
+        return queryFactory
+                .select(new QIdAndNameDto(
+                        board.id,
+                        board.nickname
+                ))
+                .from(board)
+                .where(board.id.gt(lastBoardId))
+                .orderBy(board.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    /**
+     * 작성자 부분 검색
+     * - 이름 색인의 게시물 ID 가 MAX_NICKNAME_IDS 이하면 PK IN 조건으로 변환
+     */
     private Predicate nicknameLike(String nickname) {
-        return nickname != null
-                ? board.nickname.like("%" + nickname + "%")
-                : null;
+        if (nickname == null) {
+            return null;
+        }
+
+        if (nameSearchIndex.isReady()) {
+            long[] boardIds = nameSearchIndex.searchBoardIds(nickname);
+            if (boardIds.length == 0) {
+                return board.id.isNull(); // 결과 없음
+            }
+            if (boardIds.length <= MAX_NICKNAME_IDS) {
+                return board.id.in(Arrays.stream(boardIds).boxed().collect(Collectors.toList()));
+            }
+        }
+
+        return board.nickname.like("%" + nickname + "%");
     }
 
     private Predicate titleLike(String title) {
@@ -127,6 +314,24 @@ public class BoardQueryRepositoryImpl implements BoardQueryRepositoryCustom {
                 : board.createdDate.asc();
     }
 
+    private Predicate cursorCondition(BoardCursor cursor, boolean isNext) {
+        if (cursor == null) {
+            return null;
+        }
+
+        return isNext
+                ? board.createdDate.lt(cursor.getCreatedDate())
+                    .or(board.createdDate.eq(cursor.getCreatedDate()).and(board.id.lt(cursor.getBoardId())))
+                : board.createdDate.gt(cursor.getCreatedDate())
+                    .or(board.createdDate.eq(cursor.getCreatedDate()).and(board.id.gt(cursor.getBoardId())));
+    }
+
+    private OrderSpecifier<?>[] orderByCursor(boolean isNext) {
+        return isNext
+                ? new OrderSpecifier<?>[]{board.createdDate.desc(), board.id.desc()}
+                : new OrderSpecifier<?>[]{board.createdDate.asc(), board.id.asc()};
+    }
+
     private Predicate memberIdEq(Long memberId) {
         return memberId != null
                 ? board.member.id.eq(memberId)
@@ -4,6 +4,10 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import toyproject.board.domain.BaseEntity;
 import toyproject.board.domain.board.Board;
 import toyproject.board.domain.member.Member;
@@ -14,11 +18,15 @@ import static javax.persistence.FetchType.LAZY;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "comment")
 @Getter
 public class Comment extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "comment_id")
+    @GenericGenerator(name = "comment_id", strategy = "toyproject.board.domain.PooledIdGenerator",
+            parameters = @Parameter(name = "segment_value", value = "comment"))
     @Column(name = "comment_id")
     private Long id;
 
@@ -6,6 +6,7 @@ import toyproject.board.dto.CheckPasswordDto;
 import toyproject.board.dto.comment.query.CommentQueryDto;
 
 import java.util.List;
+import java.util.Map;
 
 public interface CommentRepositoryCustom {
 
@@ -13,12 +14,18 @@ public interface CommentRepositoryCustom {
 
     Page<CommentQueryDto> getCommentsPageByBoardId(Long boardId, Pageable pageable);
 
+    List<CommentQueryDto> getCommentsContentByBoardId(Long boardId, Pageable pageable);
+
+    long countByBoardId(Long boardId);
+
     CheckPasswordDto getPassword(Long id);
 
     void deleteByBoardId(Long boardId);
 
-    void deleteByMemberId(Long memberId);
+    List<Long> findIdsByMemberId(Long memberId, int limit);
+
+    List<Long> findIdsByBoardIdList(List<Long> boardIdList, int limit);
 
-    void deleteByBoardIdList(List<Long> boardIdList);
+    Map<Long, Long> deleteByIdList(List<Long> commentIdList);
 
 }
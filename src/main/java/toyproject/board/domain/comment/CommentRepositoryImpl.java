@@ -1,6 +1,8 @@
 package toyproject.board.domain.comment;
 
 import com.querydsl.core.QueryResults;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -11,10 +13,14 @@ import toyproject.board.dto.QCheckPasswordDto;
 import toyproject.board.dto.comment.query.CommentQueryDto;
 import toyproject.board.dto.comment.query.QCommentQueryDto;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static toyproject.board.domain.comment.QComment.comment;
 
+// QueryDSL 벌크 삭제 후에는 Hibernate 가 comment 2차 캐시 영역을 무효화
+// 게시물 댓글 수는 BoardRepository 에서 갱신 (board 영역은 갱신한 게시물만 제거)
 @RequiredArgsConstructor
 public class CommentRepositoryImpl implements CommentRepositoryCustom {
 
@@ -62,6 +68,35 @@ public class CommentRepositoryImpl implements CommentRepositoryCustom {
         return new PageImpl<>(content, pageable, total);
     }
 
+    // 댓글 페이지 내용만 조회 (count 쿼리 X)
+    @Override
+    public List<CommentQueryDto> getCommentsContentByBoardId(Long boardId, Pageable pageable) {
+        return queryFactory
+                .select(new QCommentQueryDto(
+                        comment.id,
+                        comment.content,
+                        comment.nickname,
+                        comment.member.id,
+                        comment.board.id,
+                        comment.createdDate,
+                        comment.lastModifiedDate
+                ))
+                .from(comment)
+                .where(comment.board.id.eq(boardId))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .orderBy(comment.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public long countByBoardId(Long boardId) {
+        return queryFactory
+                .selectFrom(comment)
+                .where(comment.board.id.eq(boardId))
+                .fetchCount();
+    }
+
     @Override
     public CheckPasswordDto getPassword(Long id) {
         return queryFactory
@@ -74,6 +109,7 @@ public class CommentRepositoryImpl implements CommentRepositoryCustom {
                 .fetchOne();
     }
 
+    // 게시물에 달린 댓글 삭제 (게시물 삭제 전)
     @Override
     public void deleteByBoardId(Long boardId) {
         queryFactory
@@ -82,19 +118,54 @@ public class CommentRepositoryImpl implements CommentRepositoryCustom {
                 .execute();
     }
 
+    // 유저가 작성한 댓글 ID (탈퇴 정리)
     @Override
-    public void deleteByMemberId(Long memberId) {
-        queryFactory
-                .delete(comment)
+    public List<Long> findIdsByMemberId(Long memberId, int limit) {
+        return queryFactory
+                .select(comment.id)
+                .from(comment)
                 .where(comment.member.id.eq(memberId))
-                .execute();
+                .orderBy(comment.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 게시물들에 달린 댓글 ID (탈퇴 정리)
+    @Override
+    public List<Long> findIdsByBoardIdList(List<Long> boardIdList, int limit) {
+        return queryFactory
+                .select(comment.id)
+                .from(comment)
+                .where(comment.board.id.in(boardIdList))
+                .orderBy(comment.id.asc())
+                .limit(limit)
+                .fetch();
     }
 
+    /**
+     * 댓글 ID 로 삭제
+     * - 댓글이 달려있던 게시물 ID 와 게시물별 삭제된 댓글 수를 반환 (댓글 수 감소는 호출한 쪽에서)
+     */
     @Override
-    public void deleteByBoardIdList(List<Long> boardIdList) {
+    public Map<Long, Long> deleteByIdList(List<Long> commentIdList) {
+        NumberExpression<Long> count = comment.count();
+
+        List<Tuple> countByBoard = queryFactory
+                .select(comment.board.id, count)
+                .from(comment)
+                .where(comment.id.in(commentIdList))
+                .groupBy(comment.board.id)
+                .fetch();
+
         queryFactory
                 .delete(comment)
-                .where(comment.board.id.in(boardIdList))
+                .where(comment.id.in(commentIdList))
                 .execute();
+
+        Map<Long, Long> deletedByBoard = new LinkedHashMap<>();
+        for (Tuple tuple : countByBoard) {
+            deletedByBoard.put(tuple.get(comment.board.id), tuple.get(count));
+        }
+        return deletedByBoard;
     }
 }
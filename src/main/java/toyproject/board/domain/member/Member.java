@@ -4,17 +4,27 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.Parameter;
 import toyproject.board.domain.BaseTimeEntity;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "member")
+@Table(indexes = @Index(name = "idx_member_withdrawn_date", columnList = "withdrawn_date"))
 @Getter
 public class Member extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = "member_id")
+    @GenericGenerator(name = "member_id", strategy = "toyproject.board.domain.PooledIdGenerator",
+            parameters = @Parameter(name = "segment_value", value = "member"))
     @Column(name = "member_id")
     private Long id;
 
@@ -24,10 +34,26 @@ public class Member extends BaseTimeEntity {
     @Column(nullable = false)
     private String password;
 
+    /**
+     * 탈퇴 일시 (논리 삭제)
+     * - 탈퇴하면 바로 로그인, 조회, 검색에서 제외
+     * - 작성한 게시물, 댓글과 멤버 row 는 MemberPurgeJob 이 나누어 삭제
+     */
+    private LocalDateTime withdrawnDate;
+
     @Builder
     public Member(String username, String password) {
         this.username = username;
         this.password = password;
     }
 
+    //====수정 메서드====//
+    public void withdraw() {
+        this.withdrawnDate = LocalDateTime.now();
+    }
+
+    public boolean isWithdrawn() {
+        return withdrawnDate != null;
+    }
+
 }
@@ -2,13 +2,22 @@ package toyproject.board.domain.member.query;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import toyproject.board.dto.IdAndNameDto;
 import toyproject.board.dto.member.query.MemberQueryDto;
 import toyproject.board.dto.member.query.MemberSearchCondition;
 
+import java.util.List;
+
 public interface MemberQueryRepositoryCustom {
 
     MemberQueryDto findNoPasswordById(Long memberId);
 
     Page<MemberQueryDto> searchPage(MemberSearchCondition condition, Pageable pageable);
 
+    List<IdAndNameDto> findUsernameChunk(Long lastMemberId, int size);
+
+    List<Long> findWithdrawnIds(int limit);
+
+    long countWithdrawn();
+
 }
@@ -7,11 +7,17 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import toyproject.board.dto.IdAndNameDto;
+import toyproject.board.dto.QIdAndNameDto;
 import toyproject.board.dto.member.query.MemberQueryDto;
 import toyproject.board.dto.member.query.MemberSearchCondition;
 import toyproject.board.dto.member.query.QMemberQueryDto;
+import toyproject.board.search.NameSearchIndex;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static toyproject.board.domain.member.QMember.member;
 
@@ -19,6 +25,7 @@ import static toyproject.board.domain.member.QMember.member;
 public class MemberQueryRepositoryImpl implements MemberQueryRepositoryCustom {
 
     private final JPAQueryFactory queryFactory;
+    private final NameSearchIndex nameSearchIndex;
 
     @Override
     public MemberQueryDto findNoPasswordById(Long memberId) {
@@ -30,7 +37,8 @@ public class MemberQueryRepositoryImpl implements MemberQueryRepositoryCustom {
                         member.lastModifiedDate
                 ))
                 .from(member)
-                .where(member.id.eq(memberId))
+                .where(member.id.eq(memberId),
+                        member.withdrawnDate.isNull())
                 .fetchOne();
 
 
@@ -46,6 +54,11 @@ public class MemberQueryRepositoryImpl implements MemberQueryRepositoryCustom {
     @Override
     public Page<MemberQueryDto> searchPage(MemberSearchCondition condition, Pageable pageable) {
 
+        // username 검색은 LIKE '%..%' 대신 이름 색인 사용
+        if (condition.getUsername() != null && nameSearchIndex.isReady()) {
+            return searchPageByIndex(condition.getUsername(), pageable);
+        }
+
         QueryResults<MemberQueryDto> results = queryFactory
                 .select(new QMemberQueryDto(
                         member.id,
@@ -54,7 +67,8 @@ public class MemberQueryRepositoryImpl implements MemberQueryRepositoryCustom {
                         member.lastModifiedDate
                 ))
                 .from(member)
-                .where(usernameLike(condition))
+                .where(usernameLike(condition),
+                        member.withdrawnDate.isNull())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .orderBy(member.id.asc())
@@ -66,4 +80,79 @@ public class MemberQueryRepositoryImpl implements MemberQueryRepositoryCustom {
         return new PageImpl<>(content, pageable, total);
 
     }
+
+    /**
+     * 이름 색인으로 멤버 검색
+     * - 색인 결과는 멤버 ID 오름차순이므로 현재 페이지의 ID 만 PK 로 조회
+     */
+    private Page<MemberQueryDto> searchPageByIndex(String username, Pageable pageable) {
+
+        long[] memberIds = nameSearchIndex.searchMemberIds(username);
+
+        int from = (int) Math.min(pageable.getOffset(), memberIds.length);
+        int to = Math.min(from + pageable.getPageSize(), memberIds.length);
+        if (from == to) {
+            return new PageImpl<>(Collections.emptyList(), pageable, memberIds.length);
+        }
+
+        List<Long> pageIds = Arrays.stream(memberIds, from, to)
+                .boxed()
+                .collect(Collectors.toList());
+
+        List<MemberQueryDto> content = queryFactory
+                .select(new QMemberQueryDto(
+                        member.id,
+                        member.username,
+                        member.createdDate,
+                        member.lastModifiedDate
+                ))
+                .from(member)
+                .where(member.id.in(pageIds),
+                        member.withdrawnDate.isNull())
+                .orderBy(member.id.asc())
+                .fetch();
+
+        return new PageImpl<>(content, pageable, memberIds.length);
+    }
+
+    /**
+     * 이름 색인용 멤버 조회 (멤버 ID 순)
+     * - lastMemberId 보다 큰 ID 의 멤버를 size 명 조회
+     */
+    @Override
+    public List<IdAndNameDto> findUsernameChunk(Long lastMemberId, int size) {
+        return queryFactory
+                .select(new QIdAndNameDto(
+                        member.id,
+                        member.username
+                ))
+                .from(member)
+                .where(member.id.gt(lastMemberId),
+                        member.withdrawnDate.isNull())
+                .orderBy(member.id.asc())
+                .limit(size)
+                .fetch();
+    }
+
+    /**
+     * 정리(purge)를 기다리는 탈퇴 멤버 (멤버 ID 순)
+     */
+    @Override
+    public List<Long> findWithdrawnIds(int limit) {
+        return queryFactory
+                .select(member.id)
+                .from(member)
+                .where(member.withdrawnDate.isNotNull())
+                .orderBy(member.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long countWithdrawn() {
+        return queryFactory
+                .selectFrom(member)
+                .where(member.withdrawnDate.isNotNull())
+                .fetchCount();
+    }
 }
@@ -0,0 +1,36 @@
+package toyproject.board.domain.trending;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * 인기 게시물 점수 체크포인트
+ * - checkpointTime(epoch ms) 시점의 점수, 재시작 시 지난 시간만큼 감쇠해서 복원
+ */
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Getter
+public class TrendingScore {
+
+    @Id
+    @Column(name = "board_id")
+    private Long boardId;
+
+    @Column(nullable = false)
+    private Double score;
+
+    @Column(nullable = false)
+    private Long checkpointTime;
+
+    public TrendingScore(Long boardId, Double score, Long checkpointTime) {
+        this.boardId = boardId;
+        this.score = score;
+        this.checkpointTime = checkpointTime;
+    }
+
+}
@@ -0,0 +1,6 @@
+package toyproject.board.domain.trending;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TrendingScoreRepository extends JpaRepository<TrendingScore, Long> {
+}
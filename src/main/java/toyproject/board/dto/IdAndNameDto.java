@@ -0,0 +1,18 @@
+package toyproject.board.dto;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+// ID, 이름 쿼리 DTO (이름 색인 적재용)
+@Getter
+public class IdAndNameDto {
+
+    private final Long id;
+    private final String name;
+
+    @QueryProjection
+    public IdAndNameDto(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+}
@@ -0,0 +1,35 @@
+package toyproject.board.dto.board;
+
+import lombok.Getter;
+import toyproject.board.domain.board.Board;
+
+import java.time.LocalDateTime;
+
+// 게시물 내보내기 DTO (NDJSON 한 줄, 비밀번호 제외)
+@Getter
+public class BoardExportDto {
+
+    private final String type = "board";
+    private final Long boardId;
+    private final String title;
+    private final String content;
+    private final String nickname;
+    private final Long memberId;
+    private final Integer views;
+    private final Long commentCount;
+    private final LocalDateTime createdDate;
+    private final LocalDateTime lastModifiedDate;
+
+    public BoardExportDto(Board board, Long memberId) {
+        this.boardId = board.getId();
+        this.title = board.getTitle();
+        this.content = board.getContent();
+        this.nickname = board.getNickname();
+        this.memberId = memberId;
+        this.views = board.getViews();
+        this.commentCount = board.getCommentCount();
+        this.createdDate = board.getCreatedDate();
+        this.lastModifiedDate = board.getLastModifiedDate();
+    }
+
+}
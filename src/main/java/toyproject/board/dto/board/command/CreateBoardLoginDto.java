@@ -3,6 +3,7 @@ package toyproject.board.dto.board.command;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import toyproject.board.auth.LoginMember;
 import toyproject.board.domain.board.Board;
 import toyproject.board.domain.member.Member;
 
@@ -21,22 +22,23 @@ public class CreateBoardLoginDto {
     private String content;
 
     @NotNull
-    private Member member;
+    private LoginMember member;
 
     private String nickname;
 
     @Builder
-    public CreateBoardLoginDto(String title, String content, Member member) {
+    public CreateBoardLoginDto(String title, String content, LoginMember member) {
         this.title = title;
         this.content = content;
         this.member = member;
     }
 
-    public Board toEntity() {
+    // memberReference : 로그인 멤버 엔티티 (탈퇴 여부 확인 후 전달)
+    public Board toEntity(Member memberReference) {
         return Board.builder()
                 .title(title)
                 .content(content)
-                .member(member)
+                .member(memberReference)
                 .nickname(nickname)
                 .build();
     }
@@ -4,6 +4,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import toyproject.board.auth.LoginMember;
 import toyproject.board.domain.member.Member;
 
 // 게시물 생성 요청 DTO
@@ -31,7 +32,7 @@ public class CreateBoardRequestDto {
         this.password = password;
     }
 
-    public CreateBoardLoginDto toDto(Member member) {
+    public CreateBoardLoginDto toDto(LoginMember member) {
         return CreateBoardLoginDto.builder()
                 .title(title)
                 .content(content)
@@ -3,7 +3,7 @@ package toyproject.board.dto.board.command;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
-import toyproject.board.domain.member.Member;
+import toyproject.board.auth.LoginMember;
 
 import javax.validation.constraints.NotNull;
 
@@ -16,10 +16,10 @@ public class DeleteBoardLoginDto {
     private Long id;
 
     @NotNull
-    private Member member;
+    private LoginMember member;
 
     @Builder
-    public DeleteBoardLoginDto(Long id, Member member) {
+    public DeleteBoardLoginDto(Long id, LoginMember member) {
         this.id = id;
         this.member = member;
     }
@@ -4,6 +4,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import toyproject.board.auth.LoginMember;
 import toyproject.board.domain.member.Member;
 
 // 게시물 삭제 요청 DTO
@@ -25,7 +26,7 @@ public class DeleteBoardRequestDto {
         this.password = password;
     }
 
-    public DeleteBoardLoginDto toDto(Member member) {
+    public DeleteBoardLoginDto toDto(LoginMember member) {
         return DeleteBoardLoginDto.builder()
                 .id(id)
                 .member(member)
@@ -3,7 +3,7 @@ package toyproject.board.dto.board.command;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
-import toyproject.board.domain.member.Member;
+import toyproject.board.auth.LoginMember;
 
 import javax.validation.constraints.NotNull;
 
@@ -16,13 +16,13 @@ public class UpdateBoardLoginDto {
     private Long id;
 
     @NotNull
-    private Member member;
+    private LoginMember member;
 
     private String title;
     private String content;
 
     @Builder
-    public UpdateBoardLoginDto(Long id, Member member, String title, String content) {
+    public UpdateBoardLoginDto(Long id, LoginMember member, String title, String content) {
         this.id = id;
         this.member = member;
         this.title = title;
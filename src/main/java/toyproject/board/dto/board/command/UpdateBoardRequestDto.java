@@ -4,6 +4,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import toyproject.board.auth.LoginMember;
 import toyproject.board.domain.member.Member;
 
 // 게시물 수정 요청 DTO
@@ -31,7 +32,7 @@ public class UpdateBoardRequestDto {
         this.content = content;
     }
 
-    public UpdateBoardLoginDto toDto(Member member) {
+    public UpdateBoardLoginDto toDto(LoginMember member) {
         return UpdateBoardLoginDto.builder()
                 .id(id)
                 .member(member)
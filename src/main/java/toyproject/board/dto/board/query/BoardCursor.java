@@ -0,0 +1,50 @@
+package toyproject.board.dto.board.query;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 게시물 리스트 커서 DTO (생성 일 + 게시물 ID)
+// 클라이언트에는 Base64 문자열로 인코딩해서 전달
+@Getter
+public class BoardCursor {
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime createdDate;
+    private final Long boardId;
+
+    public BoardCursor(LocalDateTime createdDate, Long boardId) {
+        this.createdDate = createdDate;
+        this.boardId = boardId;
+    }
+
+    public static BoardCursor of(BoardAndCommentCount board) {
+        return new BoardCursor(board.getCreatedDate(), board.getBoardId());
+    }
+
+    public String encode() {
+        String raw = createdDate + DELIMITER + boardId;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static BoardCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+
+            LocalDateTime createdDate = LocalDateTime.parse(raw.substring(0, index));
+            Long boardId = Long.valueOf(raw.substring(index + 1));
+
+            return new BoardCursor(createdDate, boardId);
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+}
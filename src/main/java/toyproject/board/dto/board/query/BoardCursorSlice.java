@@ -0,0 +1,63 @@
+package toyproject.board.dto.board.query;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+// 게시물 리스트 커서 페이징 DTO
+// 다음/이전 페이지는 nextCursor, prevCursor 로 요청
+@NoArgsConstructor
+@Getter
+@Setter
+public class BoardCursorSlice {
+
+    private List<BoardAndCommentCount> content;
+    private int size;
+    private boolean hasNext;
+    private boolean hasPrev;
+    private String nextCursor;
+    private String prevCursor;
+
+    @Builder
+    public BoardCursorSlice(List<BoardAndCommentCount> content, int size, boolean hasNext, boolean hasPrev, String nextCursor, String prevCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.hasPrev = hasPrev;
+        this.nextCursor = nextCursor;
+        this.prevCursor = prevCursor;
+    }
+
+    /**
+     * @param hasCursor 요청에 커서가 포함되었는지 여부
+     * @param hasMore   조회한 방향으로 게시물이 더 남아있는지 여부
+     * @param isNext    after(다음) 방향 조회인지 여부
+     */
+    public static BoardCursorSlice of(List<BoardAndCommentCount> content, int size,
+                                      boolean hasCursor, boolean hasMore, boolean isNext) {
+
+        boolean hasNext = isNext ? hasMore : hasCursor;
+        boolean hasPrev = isNext ? hasCursor : hasMore;
+
+        BoardCursorSliceBuilder builder = BoardCursorSlice.builder()
+                .content(content)
+                .size(size)
+                .hasNext(hasNext)
+                .hasPrev(hasPrev);
+
+        if (!content.isEmpty()) {
+            if (hasNext) {
+                builder.nextCursor(BoardCursor.of(content.get(content.size() - 1)).encode());
+            }
+            if (hasPrev) {
+                builder.prevCursor(BoardCursor.of(content.get(0)).encode());
+            }
+        }
+
+        return builder.build();
+    }
+
+}
@@ -0,0 +1,33 @@
+package toyproject.board.dto.board.query;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 검색 색인 DTO
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class BoardIndexDto {
+
+    private Long boardId;
+    private String title;
+    private String content;
+    private String nickname;
+    private Long memberId;
+    private LocalDateTime createdDate;
+
+    @Builder
+    @QueryProjection
+    public BoardIndexDto(Long boardId, String title, String content, String nickname, Long memberId, LocalDateTime createdDate) {
+        this.boardId = boardId;
+        this.title = title;
+        this.content = content;
+        this.nickname = nickname;
+        this.memberId = memberId;
+        this.createdDate = createdDate;
+    }
+}
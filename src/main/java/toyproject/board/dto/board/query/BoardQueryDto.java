@@ -38,4 +38,9 @@ public class BoardQueryDto {
         this.createdDate = createdDate;
         this.lastModifiedDate = lastModifiedDate;
     }
+
+    // 캐시된 DTO 는 공유되므로 조회 수를 더하기 전에 복사
+    public BoardQueryDto copy() {
+        return new BoardQueryDto(boardId, title, content, views, nickname, memberId, createdDate, lastModifiedDate);
+    }
 }
@@ -0,0 +1,17 @@
+package toyproject.board.dto.board.query;
+
+import lombok.Getter;
+
+// 인기 게시물 DTO (게시물 + 현재 점수)
+@Getter
+public class TrendingBoardDto {
+
+    private final BoardAndCommentCount board;
+    private final double score;
+
+    public TrendingBoardDto(BoardAndCommentCount board, double score) {
+        this.board = board;
+        this.score = score;
+    }
+
+}
@@ -0,0 +1,17 @@
+package toyproject.board.dto.board.response;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+import toyproject.board.dto.BasicResponseDto;
+import toyproject.board.dto.board.query.BoardCursorSlice;
+
+// 게시물 리스트 커서 페이징 응답 DTO
+@SuperBuilder
+@Getter
+@Setter
+public class BoardCursorListResponseDto extends BasicResponseDto {
+
+    private BoardCursorSlice boardList;
+
+}
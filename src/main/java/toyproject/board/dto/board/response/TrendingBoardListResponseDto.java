@@ -0,0 +1,19 @@
+package toyproject.board.dto.board.response;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+import toyproject.board.dto.BasicResponseDto;
+import toyproject.board.dto.board.query.TrendingBoardDto;
+
+import java.util.List;
+
+// 인기 게시물 응답 DTO
+@SuperBuilder
+@Getter
+@Setter
+public class TrendingBoardListResponseDto extends BasicResponseDto {
+
+    private List<TrendingBoardDto> boardList;
+
+}
@@ -0,0 +1,31 @@
+package toyproject.board.dto.comment;
+
+import lombok.Getter;
+import toyproject.board.domain.comment.Comment;
+
+import java.time.LocalDateTime;
+
+// 댓글 내보내기 DTO (NDJSON 한 줄, 비밀번호 제외)
+@Getter
+public class CommentExportDto {
+
+    private final String type = "comment";
+    private final Long commentId;
+    private final Long boardId;
+    private final String content;
+    private final String nickname;
+    private final Long memberId;
+    private final LocalDateTime createdDate;
+    private final LocalDateTime lastModifiedDate;
+
+    public CommentExportDto(Comment comment, Long boardId, Long memberId) {
+        this.commentId = comment.getId();
+        this.boardId = boardId;
+        this.content = comment.getContent();
+        this.nickname = comment.getNickname();
+        this.memberId = memberId;
+        this.createdDate = comment.getCreatedDate();
+        this.lastModifiedDate = comment.getLastModifiedDate();
+    }
+
+}
@@ -0,0 +1,23 @@
+package toyproject.board.dto.comment;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 댓글 가져오기 청크별 결과 DTO
+@Getter
+public class CommentImportChunkDto {
+
+    private final int chunk;
+    private final int imported;
+    private final int skipped;
+    private final long elapsedMillis;
+
+    @Builder
+    public CommentImportChunkDto(int chunk, int imported, int skipped, long elapsedMillis) {
+        this.chunk = chunk;
+        this.imported = imported;
+        this.skipped = skipped;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+}
@@ -1,6 +1,7 @@
 package toyproject.board.dto.comment.command;
 
 import lombok.*;
+import toyproject.board.auth.LoginMember;
 import toyproject.board.domain.board.Board;
 import toyproject.board.domain.comment.Comment;
 import toyproject.board.domain.member.Member;
@@ -21,21 +22,22 @@ public class CreateCommentLoginDto {
     private String content;
 
     @NotNull
-    private Member member;
+    private LoginMember member;
 
     @Builder
-    public CreateCommentLoginDto(Long boardId, String content, Member member) {
+    public CreateCommentLoginDto(Long boardId, String content, LoginMember member) {
         this.boardId = boardId;
         this.content = content;
         this.member = member;
     }
 
-    public Comment toEntity(Board board) {
+    // memberReference : 로그인 멤버 엔티티 (탈퇴 여부 확인 후 전달)
+    public Comment toEntity(Board board, Member memberReference) {
         return Comment.builder()
                 .board(board)
                 .content(content)
                 .nickname(member.getUsername())
-                .member(member)
+                .member(memberReference)
                 .build();
     }
 
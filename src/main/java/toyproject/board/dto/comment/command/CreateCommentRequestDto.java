@@ -1,6 +1,7 @@
 package toyproject.board.dto.comment.command;
 
 import lombok.*;
+import toyproject.board.auth.LoginMember;
 import toyproject.board.domain.board.Board;
 import toyproject.board.domain.comment.Comment;
 import toyproject.board.domain.member.Member;
@@ -41,7 +42,7 @@ public class CreateCommentRequestDto {
     }
 
      //===createComment 메서드의 파라미터로 전달하기 위한 DTO 변환 메서드===//
-    public CreateCommentLoginDto toDto(Member member) {
+    public CreateCommentLoginDto toDto(LoginMember member) {
         return CreateCommentLoginDto.builder()
                 .boardId(boardId)
                 .content(content)
@@ -4,7 +4,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import toyproject.board.domain.member.Member;
+import toyproject.board.auth.LoginMember;
 
 // 댓글 삭제 요청 DTO
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -16,7 +16,7 @@ public class DeleteCommentRequestDto {
 
     private String password;
 
-    public DeleteCommentLoginDto toDto(Member member) {
+    public DeleteCommentLoginDto toDto(LoginMember member) {
         return DeleteCommentLoginDto.builder()
                 .id(id)
                 .member(member)
@@ -3,7 +3,7 @@ package toyproject.board.dto.comment.command;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
-import toyproject.board.domain.member.Member;
+import toyproject.board.auth.LoginMember;
 
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -20,10 +20,10 @@ public class UpdateCommentLoginDto {
     private String content;
 
     @NotNull
-    private Member member;
+    private LoginMember member;
 
     @Builder
-    public UpdateCommentLoginDto(Long commentId, String content, Member member) {
+    public UpdateCommentLoginDto(Long commentId, String content, LoginMember member) {
         this.commentId = commentId;
         this.content = content;
         this.member = member;
@@ -1,6 +1,7 @@
 package toyproject.board.dto.comment.command;
 
 import lombok.*;
+import toyproject.board.auth.LoginMember;
 import toyproject.board.domain.member.Member;
 
 // 댓글 수정 요청 DTO
@@ -22,7 +23,7 @@ public class UpdateCommentRequestDto {
         this.password = password;
     }
 
-    public UpdateCommentLoginDto toDto(Member member) {
+    public UpdateCommentLoginDto toDto(LoginMember member) {
         return UpdateCommentLoginDto.builder()
                 .commentId(commentId)
                 .content(content)
@@ -0,0 +1,21 @@
+package toyproject.board.dto.comment.response;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+import toyproject.board.dto.BasicResponseDto;
+import toyproject.board.dto.comment.CommentImportChunkDto;
+
+import java.util.List;
+
+// 댓글 가져오기 응답 DTO
+@Getter
+@Setter
+@SuperBuilder
+public class CommentImportResponseDto extends BasicResponseDto {
+
+    private long imported;
+    private long skipped;
+    private List<CommentImportChunkDto> chunks;
+
+}
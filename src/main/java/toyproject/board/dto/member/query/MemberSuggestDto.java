@@ -0,0 +1,16 @@
+package toyproject.board.dto.member.query;
+
+import lombok.Getter;
+
+// 멤버 자동 완성 DTO
+@Getter
+public class MemberSuggestDto {
+
+    private final Long memberId;
+    private final String username;
+
+    public MemberSuggestDto(Long memberId, String username) {
+        this.memberId = memberId;
+        this.username = username;
+    }
+}
@@ -0,0 +1,18 @@
+package toyproject.board.dto.member.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+import toyproject.board.dto.BasicResponseDto;
+
+// 로그인 응답 DTO (토큰 모드에서만 token 포함)
+@Getter
+@Setter
+@SuperBuilder
+public class LoginResponseDto extends BasicResponseDto {
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String token;
+
+}
@@ -0,0 +1,19 @@
+package toyproject.board.dto.member.response;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+import toyproject.board.dto.BasicResponseDto;
+import toyproject.board.dto.member.query.MemberSuggestDto;
+
+import java.util.List;
+
+// 멤버 자동 완성 응답 DTO
+@Getter
+@Setter
+@SuperBuilder
+public class MemberSuggestResponseDto extends BasicResponseDto {
+
+    private List<MemberSuggestDto> members;
+
+}
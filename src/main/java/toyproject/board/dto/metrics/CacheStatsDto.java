@@ -0,0 +1,29 @@
+package toyproject.board.dto.metrics;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 캐시 통계 DTO
+@Getter
+public class CacheStatsDto {
+
+    private final String name;
+    private final long size;
+    private final long hitCount;
+    private final long missCount;
+    private final double hitRate;
+    private final long evictionCount;
+    private final long evictionWeight;
+
+    @Builder
+    public CacheStatsDto(String name, long size, long hitCount, long missCount, double hitRate, long evictionCount, long evictionWeight) {
+        this.name = name;
+        this.size = size;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.hitRate = hitRate;
+        this.evictionCount = evictionCount;
+        this.evictionWeight = evictionWeight;
+    }
+
+}
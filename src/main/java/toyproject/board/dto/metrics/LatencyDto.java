@@ -0,0 +1,27 @@
+package toyproject.board.dto.metrics;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 핸들러별 응답 시간 DTO (마이크로초)
+@Getter
+public class LatencyDto {
+
+    private final String handler;
+    private final long count;
+    private final long p50;
+    private final long p90;
+    private final long p99;
+    private final long max;
+
+    @Builder
+    public LatencyDto(String handler, long count, long p50, long p90, long p99, long max) {
+        this.handler = handler;
+        this.count = count;
+        this.p50 = p50;
+        this.p90 = p90;
+        this.p99 = p99;
+        this.max = max;
+    }
+
+}
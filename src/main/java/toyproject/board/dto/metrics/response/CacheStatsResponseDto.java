@@ -0,0 +1,19 @@
+package toyproject.board.dto.metrics.response;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+import toyproject.board.dto.BasicResponseDto;
+import toyproject.board.dto.metrics.CacheStatsDto;
+
+import java.util.List;
+
+// 캐시 통계 조회 응답 DTO
+@Getter
+@Setter
+@SuperBuilder
+public class CacheStatsResponseDto extends BasicResponseDto {
+
+    private List<CacheStatsDto> caches;
+
+}
@@ -0,0 +1,19 @@
+package toyproject.board.dto.metrics.response;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+import toyproject.board.dto.BasicResponseDto;
+import toyproject.board.dto.metrics.LatencyDto;
+
+import java.util.List;
+
+// 응답 시간 조회 응답 DTO
+@Getter
+@Setter
+@SuperBuilder
+public class LatencyResponseDto extends BasicResponseDto {
+
+    private List<LatencyDto> latencies;
+
+}
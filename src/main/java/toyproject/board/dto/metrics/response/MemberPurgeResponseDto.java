@@ -0,0 +1,20 @@
+package toyproject.board.dto.metrics.response;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+import toyproject.board.dto.BasicResponseDto;
+
+// 탈퇴 멤버 정리 진행 상태 응답 DTO
+@Getter
+@Setter
+@SuperBuilder
+public class MemberPurgeResponseDto extends BasicResponseDto {
+
+    private long pendingMembers;
+    private Long currentMemberId;
+    private long purgedMembers;
+    private long deletedBoards;
+    private long deletedComments;
+
+}
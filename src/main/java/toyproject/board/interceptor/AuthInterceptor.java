@@ -1,6 +1,7 @@
 package toyproject.board.interceptor;
 
 import org.springframework.web.servlet.HandlerInterceptor;
+import toyproject.board.util.RequestUtils;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -35,10 +36,7 @@ public class AuthInterceptor implements HandlerInterceptor {
         }
 
         String ipAttribute = session.getAttribute("ip").toString();
-        String ip = request.getHeader("X-FORWARDED-FOR");
-        if (ip == null) {
-            ip = request.getRemoteAddr();
-        }
+        String ip = RequestUtils.getClientIp(request);
 
         if (ip == null || !ip.equals(ipAttribute)) {
             response.sendError(401, "ip 오류");
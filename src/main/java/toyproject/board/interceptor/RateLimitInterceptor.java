@@ -0,0 +1,40 @@
+package toyproject.board.interceptor;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+import toyproject.board.ratelimit.RateLimitExceededException;
+import toyproject.board.ratelimit.RateLimiter;
+import toyproject.board.util.RequestUtils;
+
+import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+
+// 요청 속도 제한 인터셉터 (POST 만, 클라이언트 IP 기준, 비동기 응답 디스패치는 이미 차감했으므로 제외)
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimiter rateLimiter;
+
+    public RateLimitInterceptor(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request,
+                             HttpServletResponse response,
+                             Object handler) throws Exception {
+
+        if (request.getDispatcherType() == DispatcherType.ASYNC || !"POST".equals(request.getMethod())) {
+            return true;
+        }
+
+        long waitNanos = rateLimiter.tryAcquire(RequestUtils.getClientIp(request));
+        if (waitNanos > 0) {
+            // 비밀번호 해시 전에 거절 (Retry-After : 올림한 초)
+            throw new RateLimitExceededException((waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        }
+
+        return true;
+    }
+
+}
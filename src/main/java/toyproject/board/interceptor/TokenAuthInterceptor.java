@@ -0,0 +1,53 @@
+package toyproject.board.interceptor;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+import toyproject.board.auth.LoginMember;
+import toyproject.board.auth.LoginMemberArgumentResolver;
+import toyproject.board.auth.TokenProvider;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * 토큰 인증 인터셉터 (board.auth.mode: token)
+ * - Authorization: Bearer {token} 헤더를 검증하고 로그인 멤버를 요청 속성에 저장
+ * - required 가 false 면 토큰이 없는 요청은 비로그인으로 통과
+ */
+public class TokenAuthInterceptor implements HandlerInterceptor {
+
+    private static final String BEARER = "Bearer ";
+
+    private final TokenProvider tokenProvider;
+    private final boolean required;
+
+    public TokenAuthInterceptor(TokenProvider tokenProvider, boolean required) {
+        this.tokenProvider = tokenProvider;
+        this.required = required;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request,
+                             HttpServletResponse response,
+                             Object handler) throws Exception {
+
+        String authorization = request.getHeader("Authorization");
+        if (authorization == null || !authorization.startsWith(BEARER)) {
+            if (required) {
+                response.sendError(401, "로그인이 필요합니다.");
+                return false;
+            }
+            return true;
+        }
+
+        LoginMember member = tokenProvider.verify(authorization.substring(BEARER.length()), request.getHeader("User-Agent"));
+        if (member == null) {
+            response.sendError(401, "토큰 오류");
+            return false;
+        }
+
+        request.setAttribute(LoginMemberArgumentResolver.REQUEST_KEY, member);
+
+        return true;
+    }
+
+}
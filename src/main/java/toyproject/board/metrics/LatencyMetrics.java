@@ -0,0 +1,71 @@
+package toyproject.board.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.stereotype.Component;
+import toyproject.board.dto.metrics.LatencyDto;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 핸들러(컨트롤러 메서드)별 응답 시간 히스토그램
+ * - HdrHistogram Recorder 로 기록하므로 요청 스레드는 잠금 없이 기록 (마이크로초 단위, 유효 숫자 3자리)
+ * - 조회할 때 구간 히스토그램을 누적 히스토그램에 합산
+ */
+@Component
+public class LatencyMetrics {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final Map<String, HandlerLatency> handlers = new ConcurrentHashMap<>();
+
+    // 응답 시간 기록
+    public void record(String handler, long elapsedNanos) {
+        handlers.computeIfAbsent(handler, key -> new HandlerLatency())
+                .recorder.recordValue(Math.max(0, elapsedNanos / 1000));
+    }
+
+    // 핸들러별 p50 / p90 / p99 / max (마이크로초)
+    public List<LatencyDto> getLatencies() {
+
+        List<LatencyDto> result = new ArrayList<>(handlers.size());
+
+        handlers.forEach((handler, latency) -> {
+            Histogram histogram = latency.snapshot();
+            result.add(LatencyDto.builder()
+                    .handler(handler)
+                    .count(histogram.getTotalCount())
+                    .p50(histogram.getValueAtPercentile(50))
+                    .p90(histogram.getValueAtPercentile(90))
+                    .p99(histogram.getValueAtPercentile(99))
+                    .max(histogram.getMaxValue())
+                    .build());
+        });
+
+        result.sort(Comparator.comparing(LatencyDto::getHandler));
+        return result;
+    }
+
+    // 누적된 기록 초기화
+    public void reset() {
+        handlers.clear();
+    }
+
+    private static class HandlerLatency {
+
+        private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+        private final Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+        private Histogram interval;
+
+        private synchronized Histogram snapshot() {
+            interval = recorder.getIntervalHistogram(interval);
+            total.add(interval);
+            return total.copy();
+        }
+    }
+
+}
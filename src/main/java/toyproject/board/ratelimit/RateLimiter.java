@@ -0,0 +1,60 @@
+package toyproject.board.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 클라이언트별 요청 속도 제한 (엔드포인트마다 하나)
+ * - 클라이언트 키(IP) -> TokenBucket, 최대 maxClients 개 (Caffeine, 넘으면 덜 쓰인 버킷부터 제거)
+ * - 마지막 요청 후 버킷이 다시 가득 차는 시간이 지나면 제거 (제거된 버킷 = 가득 찬 버킷이므로 제한이 풀리지 않음)
+ * - 버킷이 있으면 조회, 차감 모두 잠금 없음
+ */
+public class RateLimiter {
+
+    private final long capacity;
+    private final long interval;
+    private final LongSupplier clock;
+    private final Cache<String, TokenBucket> buckets;
+
+    /**
+     * @param capacity        연속 허용 횟수
+     * @param refillPerMinute 분당 충전 횟수
+     * @param maxClients      보관할 최대 클라이언트 수
+     */
+    public RateLimiter(long capacity, long refillPerMinute, long maxClients) {
+        this(capacity, refillPerMinute, maxClients, System::nanoTime);
+    }
+
+    RateLimiter(long capacity, long refillPerMinute, long maxClients, LongSupplier clock) {
+
+        if (capacity < 1 || refillPerMinute < 1) {
+            throw new IllegalArgumentException("capacity, refill-per-minute 는 1 이상이어야 합니다.");
+        }
+
+        this.capacity = capacity;
+        this.interval = TimeUnit.MINUTES.toNanos(1) / refillPerMinute;
+        this.clock = clock;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(Duration.ofNanos(capacity * interval))
+                .build();
+    }
+
+    /**
+     * 요청 허용 여부
+     * - 허용하면 0, 거절하면 다시 시도할 수 있을 때까지 남은 시간 (ns)
+     */
+    public long tryAcquire(String clientKey) {
+        long now = clock.getAsLong();
+        return buckets.get(clientKey, key -> new TokenBucket(capacity, interval, now)).tryAcquire(now);
+    }
+
+    public long estimatedClients() {
+        return buckets.estimatedSize();
+    }
+
+}
@@ -0,0 +1,52 @@
+package toyproject.board.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * token bucket (잠금 없음)
+ * - 토큰 수와 마지막 충전 시각 대신 "다음 토큰이 모두 찬 것으로 보는 시각" 하나만 저장 (GCRA)
+ *   -> 상태가 long 하나이므로 AtomicLong CAS 한 번으로 충전 + 차감
+ * - capacity 개까지 연속 허용, 이후 interval 마다 하나씩 충전
+ * - 거절된 요청은 상태를 바꾸지 않음
+ */
+public class TokenBucket {
+
+    private final long interval; // 토큰 하나 충전 시간 (ns)
+    private final long limit;    // capacity * interval
+
+    // 이 시각 이후에는 버킷이 가득 참 (ns)
+    private final AtomicLong fullAt;
+
+    public TokenBucket(long capacity, long interval, long now) {
+        this.interval = interval;
+        this.limit = capacity * interval;
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * 토큰 하나 사용
+     * - 허용하면 0, 거절하면 다음 토큰까지 남은 시간 (ns)
+     */
+    public long tryAcquire(long now) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + interval;
+
+            long wait = next - now - limit;
+            if (wait > 0) {
+                return wait;
+            }
+
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // 남은 토큰 수
+    public long available(long now) {
+        long used = Math.max(fullAt.get(), now) - now;
+        return (limit - used) / interval;
+    }
+
+}
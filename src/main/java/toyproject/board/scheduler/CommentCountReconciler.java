@@ -0,0 +1,47 @@
+package toyproject.board.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import toyproject.board.domain.board.BoardRepository;
+
+/**
+ * 게시물 댓글 수 보정 스케줄러
+ * - board.comment_count 와 실제 댓글 수가 어긋난 게시물을 찾아 보정
+ * - 락 범위를 줄이기 위해 게시물 ID 구간별로 나누어 트랜잭션 실행
+ */
+@RequiredArgsConstructor
+@Component
+public class CommentCountReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommentCountReconciler.class);
+
+    private static final long CHUNK_SIZE = 1000;
+
+    private final BoardRepository boardRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(cron = "${board.comment-count.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+
+        Long maxId = boardRepository.findMaxId();
+        if (maxId == null) {
+            return;
+        }
+
+        long repaired = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += CHUNK_SIZE) {
+            long from = fromId;
+            long to = fromId + CHUNK_SIZE - 1;
+
+            Long count = transactionTemplate.execute(status -> boardRepository.reconcileCommentCount(from, to));
+            repaired += count != null ? count : 0;
+        }
+
+        logger.info("CommentCount reconciled: {} boards", repaired);
+    }
+
+}
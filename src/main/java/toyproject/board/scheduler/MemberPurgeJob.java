@@ -0,0 +1,203 @@
+package toyproject.board.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import toyproject.board.cache.CommentChangedEvent;
+import toyproject.board.domain.board.BoardRepository;
+import toyproject.board.domain.board.query.BoardQueryRepository;
+import toyproject.board.domain.comment.CommentRepository;
+import toyproject.board.domain.member.MemberRepository;
+import toyproject.board.domain.member.query.MemberQueryRepository;
+import toyproject.board.search.BoardDeletedEvent;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 탈퇴 멤버 정리 스케줄러
+ * - 탈퇴(논리 삭제)한 멤버의 댓글, 게시물과 게시물의 댓글, 멤버 row 를 순서대로 삭제
+ * - chunk-size 건씩 트랜잭션을 나누고 청크 사이에 pause 만큼 쉬어서 락 범위와 DB 부하를 줄임
+ * - 진행 상태는 DB 에 남아있는 데이터 자체이므로 재시작 후에도 남은 것부터 이어서 삭제
+ * - 청크 사이에 스레드가 쉬므로 @Scheduled 공용 스케줄러(스레드 하나) 대신 전용 스레드(member-purge)에서 실행
+ *   (정리하는 동안 조회 수 반영, 검색 색인 커밋 등 다른 주기 작업이 밀리지 않도록)
+ */
+@Component
+public class MemberPurgeJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(MemberPurgeJob.class);
+
+    private static final int MEMBER_BATCH_SIZE = 100;
+
+    private final MemberRepository memberRepository;
+    private final MemberQueryRepository memberQueryRepository;
+    private final BoardRepository boardRepository;
+    private final BoardQueryRepository boardQueryRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final int chunkSize;
+    private final long pauseMillis;
+    private final long intervalMillis;
+    private final ScheduledExecutorService executor;
+
+    // 진행 상태 (애플리케이션 시작 이후 누적)
+    private volatile Long currentMemberId;
+    private final AtomicLong purgedMembers = new AtomicLong();
+    private final AtomicLong deletedBoards = new AtomicLong();
+    private final AtomicLong deletedComments = new AtomicLong();
+
+    public MemberPurgeJob(MemberRepository memberRepository,
+                          MemberQueryRepository memberQueryRepository,
+                          BoardRepository boardRepository,
+                          BoardQueryRepository boardQueryRepository,
+                          CommentRepository commentRepository,
+                          TransactionTemplate transactionTemplate,
+                          ApplicationEventPublisher eventPublisher,
+                          @Value("${board.member-purge.chunk-size:500}") int chunkSize,
+                          @Value("${board.member-purge.pause:100}") long pauseMillis,
+                          @Value("${board.member-purge.interval:10000}") long intervalMillis) {
+        this.memberRepository = memberRepository;
+        this.memberQueryRepository = memberQueryRepository;
+        this.boardRepository = boardRepository;
+        this.boardQueryRepository = boardQueryRepository;
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        this.intervalMillis = intervalMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "member-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 애플리케이션 시작 후 interval 마다 실행 (이전 실행이 끝난 뒤부터 대기)
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor.scheduleWithFixedDelay(this::purgeSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 종료 시 청크 사이 대기를 인터럽트해서 멈춤
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    // 예외가 나도 다음 주기에 계속 실행 (ScheduledExecutorService 는 예외가 난 작업을 다시 실행하지 않음)
+    private void purgeSafely() {
+        try {
+            purge();
+        } catch (RuntimeException e) {
+            logger.error("탈퇴 멤버 정리 실패", e);
+        }
+    }
+
+    public void purge() {
+
+        List<Long> memberIds = memberQueryRepository.findWithdrawnIds(MEMBER_BATCH_SIZE);
+
+        try {
+            for (Long memberId : memberIds) {
+                purgeMember(memberId);
+            }
+        } catch (InterruptedException e) {
+            // 종료 중이면 멈추고 다음 실행(재시작 후)에 이어서 삭제
+            Thread.currentThread().interrupt();
+        } finally {
+            currentMemberId = null;
+        }
+    }
+
+    private void purgeMember(Long memberId) throws InterruptedException {
+
+        currentMemberId = memberId;
+        long comments = 0;
+        long boards = 0;
+
+        // 1. 유저가 작성한 댓글
+        List<Long> commentIds;
+        while (!(commentIds = commentRepository.findIdsByMemberId(memberId, chunkSize)).isEmpty()) {
+            comments += deleteComments(commentIds);
+        }
+
+        // 2. 유저가 작성한 게시물 (게시물에 달린 댓글 먼저)
+        List<Long> boardIds;
+        while (!(boardIds = boardQueryRepository.findIdsByMemberId(memberId, chunkSize)).isEmpty()) {
+
+            while (!(commentIds = commentRepository.findIdsByBoardIdList(boardIds, chunkSize)).isEmpty()) {
+                comments += deleteComments(commentIds);
+            }
+
+            List<Long> chunk = boardIds;
+            transactionTemplate.executeWithoutResult(status -> {
+                boardRepository.deleteByIdList(chunk);
+                eventPublisher.publishEvent(new BoardDeletedEvent(chunk));
+            });
+            boards += chunk.size();
+            deletedBoards.addAndGet(chunk.size());
+            pause();
+        }
+
+        // 3. 멤버
+        transactionTemplate.executeWithoutResult(status -> memberRepository.deleteById(memberId));
+        purgedMembers.incrementAndGet();
+
+        logger.info("탈퇴 멤버 정리 : memberId={}, 게시물 {}개, 댓글 {}개", memberId, boards, comments);
+    }
+
+    private int deleteComments(List<Long> commentIds) throws InterruptedException {
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, Long> deletedByBoard = commentRepository.deleteByIdList(commentIds);
+            deletedByBoard.forEach((boardId, count) -> {
+                boardRepository.addCommentCount(boardId, -count);
+                eventPublisher.publishEvent(new CommentChangedEvent(boardId));
+            });
+        });
+        deletedComments.addAndGet(commentIds.size());
+        pause();
+
+        return commentIds.size();
+    }
+
+    private void pause() throws InterruptedException {
+        if (pauseMillis > 0) {
+            Thread.sleep(pauseMillis);
+        }
+    }
+
+    public Long getCurrentMemberId() {
+        return currentMemberId;
+    }
+
+    public long getPendingMembers() {
+        return memberQueryRepository.countWithdrawn();
+    }
+
+    public long getPurgedMembers() {
+        return purgedMembers.get();
+    }
+
+    public long getDeletedBoards() {
+        return deletedBoards.get();
+    }
+
+    public long getDeletedComments() {
+        return deletedComments.get();
+    }
+
+}
@@ -0,0 +1,18 @@
+package toyproject.board.search;
+
+import toyproject.board.dto.board.query.BoardIndexDto;
+
+// 게시물 생성 / 수정 이벤트 (커밋 후 검색 색인에 반영)
+public class BoardChangedEvent {
+
+    private final BoardIndexDto board;
+
+    public BoardChangedEvent(BoardIndexDto board) {
+        this.board = board;
+    }
+
+    public BoardIndexDto getBoard() {
+        return board;
+    }
+
+}
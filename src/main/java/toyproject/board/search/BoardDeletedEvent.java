@@ -0,0 +1,18 @@
+package toyproject.board.search;
+
+import java.util.List;
+
+// 게시물 삭제 이벤트 (커밋 후 검색 색인에서 제거)
+public class BoardDeletedEvent {
+
+    private final List<Long> boardIds;
+
+    public BoardDeletedEvent(List<Long> boardIds) {
+        this.boardIds = boardIds;
+    }
+
+    public List<Long> getBoardIds() {
+        return boardIds;
+    }
+
+}
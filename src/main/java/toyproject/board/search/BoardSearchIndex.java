@@ -0,0 +1,460 @@
+package toyproject.board.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.ngram.NGramTokenizer;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.*;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import toyproject.board.dto.board.query.BoardIndexDto;
+import toyproject.board.dto.board.query.BoardSearchCondition;
+
+import javax.annotation.PreDestroy;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시물 검색 색인 (Lucene)
+ * - 제목, 내용, 작성자를 2-gram 으로 색인하고 연속된 2-gram 구문 검색으로 부분 문자열(LIKE '%..%')을 찾음
+ *   한 글자 검색어는 1-gram 필드에서 찾음
+ * - 형태소 분석 없이 n-gram 만 사용하므로 띄어쓰기, 조사와 관계없이 한글 부분 검색 가능
+ * - 변경 사항은 즉시 검색에 반영(NRT)하고, 디스크 커밋은 주기적으로 수행
+ * - index-path 가 비어 있으면 메모리에 색인
+ * - 재색인은 별도 색인에 만든 뒤 한 번에 교체 (재색인 중에도 기존 색인으로 검색)
+ */
+@Component
+public class BoardSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoardSearchIndex.class);
+
+    static final String ID = "id";
+    static final String TITLE = "title";
+    static final String CONTENT = "content";
+    static final String NICKNAME = "nickname";
+    static final String MEMBER_ID = "member_id";
+    static final String CREATED = "created";
+
+    private static final String UNIGRAM_SUFFIX = "_1";
+
+    // 1-gram 필드는 위치 정보 없이 문서만 색인
+    private static final FieldType UNIGRAM_TYPE = new FieldType();
+
+    static {
+        UNIGRAM_TYPE.setTokenized(true);
+        UNIGRAM_TYPE.setIndexOptions(IndexOptions.DOCS);
+        UNIGRAM_TYPE.setOmitNorms(true);
+        UNIGRAM_TYPE.freeze();
+    }
+
+    private final boolean enabled;
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final boolean inMemory;
+
+    // 색인 교체 중에는 변경, 검색, 커밋을 막음 (교체 외에는 서로 막지 않음)
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    // 진행 중인 재색인 (변경 사항을 함께 반영)
+    private volatile Rebuild rebuild;
+
+    public BoardSearchIndex(@Value("${board.search.enabled:true}") boolean enabled,
+                            @Value("${board.search.index-path:}") String indexPath) throws IOException {
+        this.enabled = enabled;
+        this.inMemory = indexPath.isEmpty();
+
+        if (!enabled) {
+            this.directory = null;
+            this.writer = null;
+            this.searcherManager = null;
+            return;
+        }
+
+        this.directory = inMemory
+                ? new ByteBuffersDirectory()
+                : FSDirectory.open(Paths.get(indexPath));
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer()));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 색인된 문서 수
+    public int size() {
+        return writer.getDocStats().numDocs;
+    }
+
+    // 게시물 추가 / 갱신
+    public void update(BoardIndexDto board) {
+        addAll(Collections.singletonList(board));
+    }
+
+    // 게시물 여러 건 추가 / 갱신
+    public void addAll(Collection<BoardIndexDto> boards) {
+        Lock lock = swapLock.readLock();
+        lock.lock();
+        try {
+            Rebuild current = rebuild;
+            for (BoardIndexDto board : boards) {
+                Term id = idTerm(board.getBoardId());
+                Document document = toDocument(board);
+
+                writer.updateDocument(id, document);
+                if (current != null) {
+                    current.writer.updateDocument(id, document);
+                }
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 게시물 삭제
+    public void delete(Collection<Long> boardIds) {
+        if (boardIds.isEmpty()) {
+            return;
+        }
+
+        Term[] terms = boardIds.stream()
+                .map(this::idTerm)
+                .toArray(Term[]::new);
+
+        Lock lock = swapLock.readLock();
+        lock.lock();
+        try {
+            writer.deleteDocuments(terms);
+            Rebuild current = rebuild;
+            if (current != null) {
+                current.writer.deleteDocuments(terms);
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 재색인 시작
+     * - 빈 색인(메모리 또는 임시 디렉터리)에 게시물을 추가하고 swap() 으로 기존 색인을 한 번에 교체
+     * - 재색인 중의 변경 / 삭제는 기존 색인과 재색인 양쪽에 반영
+     * - swap() 전에 close() 하면 재색인을 버림 (기존 색인 유지)
+     */
+    public Rebuild beginRebuild() {
+        try {
+            Rebuild started = new Rebuild();
+            rebuild = started;
+            return started;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 게시물 검색
+     * - 생성 일 기준 정렬 (isAsc), 같은 생성 일은 게시물 ID 순
+     * - offset 부터 size 개의 게시물 ID 와 전체 개수를 반환
+     */
+    public SearchResult search(BoardSearchCondition condition, long offset, int size) {
+
+        Query query = toQuery(condition);
+
+        boolean reverse = condition.getIsAsc() == null || !condition.getIsAsc();
+        Sort sort = new Sort(
+                new SortField(CREATED, SortField.Type.LONG, reverse),
+                new SortField(ID, SortField.Type.LONG, reverse));
+
+        Lock lock = swapLock.readLock();
+        lock.lock();
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                int numHits = (int) Math.min(Integer.MAX_VALUE, Math.max(1, offset + size));
+                TopFieldCollector collector = TopFieldCollector.create(sort, numHits, Integer.MAX_VALUE);
+                searcher.search(query, collector);
+
+                TopDocs topDocs = collector.topDocs((int) Math.min(offset, numHits), size);
+
+                List<Long> boardIds = new ArrayList<>(topDocs.scoreDocs.length);
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    boardIds.add(Long.valueOf(searcher.doc(scoreDoc.doc).get(ID)));
+                }
+
+                return new SearchResult(boardIds, collector.getTotalHits());
+
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 주기적으로 디스크에 커밋
+    @Scheduled(fixedDelayString = "${board.search.commit-interval:5000}")
+    public void commit() {
+        if (!enabled || !writer.hasUncommittedChanges()) {
+            return;
+        }
+
+        Lock lock = swapLock.readLock();
+        lock.lock();
+        try {
+            writer.commit();
+        } catch (IOException e) {
+            logger.error("검색 색인 커밋 실패", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void destroy() throws IOException {
+        if (!enabled) {
+            return;
+        }
+
+        Rebuild current = rebuild;
+        if (current != null) {
+            current.close();
+        }
+
+        commit();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private Term idTerm(Long boardId) {
+        return new Term(ID, String.valueOf(boardId));
+    }
+
+    private Query toQuery(BoardSearchCondition condition) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+
+        addSubstring(builder, TITLE, condition.getTitle());
+        addSubstring(builder, CONTENT, condition.getContent());
+        addSubstring(builder, NICKNAME, condition.getNickname());
+
+        if (condition.getMemberId() != null) {
+            builder.add(LongPoint.newExactQuery(MEMBER_ID, condition.getMemberId()), BooleanClause.Occur.FILTER);
+        }
+
+        BooleanQuery query = builder.build();
+        return query.clauses().isEmpty()
+                ? new MatchAllDocsQuery()
+                : query;
+    }
+
+    /**
+     * 부분 문자열 조건
+     * - 두 글자 이상 : 검색어의 2-gram 을 순서대로 이어 붙인 구문 검색
+     * - 한 글자 : 1-gram 필드에서 검색
+     */
+    private void addSubstring(BooleanQuery.Builder builder, String field, String value) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+
+        String text = value.toLowerCase(Locale.ROOT);
+        int[] codePoints = text.codePoints().toArray();
+
+        Query query;
+        if (codePoints.length == 1) {
+            query = new TermQuery(new Term(field + UNIGRAM_SUFFIX, text));
+        } else {
+            PhraseQuery.Builder phrase = new PhraseQuery.Builder();
+            for (int i = 0; i < codePoints.length - 1; i++) {
+                phrase.add(new Term(field, new String(codePoints, i, 2)), i);
+            }
+            query = phrase.build();
+        }
+
+        builder.add(query, BooleanClause.Occur.FILTER);
+    }
+
+    private Document toDocument(BoardIndexDto board) {
+        Document document = new Document();
+
+        document.add(new StringField(ID, String.valueOf(board.getBoardId()), Field.Store.YES));
+        document.add(new NumericDocValuesField(ID, board.getBoardId()));
+
+        addText(document, TITLE, board.getTitle());
+        addText(document, CONTENT, board.getContent());
+        addText(document, NICKNAME, board.getNickname());
+
+        if (board.getMemberId() != null) {
+            document.add(new LongPoint(MEMBER_ID, board.getMemberId()));
+        }
+
+        long created = board.getCreatedDate() != null
+                ? board.getCreatedDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : 0L;
+        document.add(new NumericDocValuesField(CREATED, created));
+
+        return document;
+    }
+
+    private void addText(Document document, String field, String value) {
+        if (value == null) {
+            return;
+        }
+        document.add(new TextField(field, value, Field.Store.NO));
+        document.add(new Field(field + UNIGRAM_SUFFIX, value, UNIGRAM_TYPE));
+    }
+
+    private static Analyzer analyzer() {
+        Map<String, Analyzer> unigram = new HashMap<>();
+        Analyzer unigramAnalyzer = new NGramAnalyzer(1);
+        for (String field : new String[]{TITLE, CONTENT, NICKNAME}) {
+            unigram.put(field + UNIGRAM_SUFFIX, unigramAnalyzer);
+        }
+        return new PerFieldAnalyzerWrapper(new NGramAnalyzer(2), unigram);
+    }
+
+    // n-gram + 소문자 변환
+    private static class NGramAnalyzer extends Analyzer {
+
+        private final int gramSize;
+
+        private NGramAnalyzer(int gramSize) {
+            this.gramSize = gramSize;
+        }
+
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer tokenizer = new NGramTokenizer(gramSize, gramSize);
+            return new TokenStreamComponents(tokenizer, new LowerCaseFilter(tokenizer));
+        }
+    }
+
+    // 재색인 중인 별도 색인
+    public class Rebuild implements Closeable {
+
+        private final Path tempPath;
+        private final Directory directory;
+        private final IndexWriter writer;
+
+        private Rebuild() throws IOException {
+            this.tempPath = inMemory ? null : Files.createTempDirectory("board-search-rebuild-");
+            this.directory = inMemory ? new ByteBuffersDirectory() : FSDirectory.open(tempPath);
+            this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer()));
+        }
+
+        // 재색인에 게시물 추가 (기존 색인에는 반영하지 않음)
+        public void addAll(Collection<BoardIndexDto> boards) {
+            try {
+                for (BoardIndexDto board : boards) {
+                    writer.updateDocument(idTerm(board.getBoardId()), toDocument(board));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * 기존 색인을 재색인 결과로 교체
+         * - 교체하는 동안 변경 / 검색을 막고, 교체 후 한 번만 refresh 하므로 비어 있는 색인이 검색되지 않음
+         */
+        public void swap() {
+            Lock lock = swapLock.writeLock();
+            lock.lock();
+            try {
+                rebuild = null;
+                writer.close();
+
+                BoardSearchIndex.this.writer.deleteAll();
+                BoardSearchIndex.this.writer.addIndexes(directory);
+                BoardSearchIndex.this.writer.commit();
+                searcherManager.maybeRefresh();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // 재색인 정리 (swap 전이면 재색인을 버림)
+        @Override
+        public void close() {
+            Lock lock = swapLock.writeLock();
+            lock.lock();
+            try {
+                if (rebuild == this) {
+                    rebuild = null;
+                }
+                if (writer.isOpen()) {
+                    writer.rollback();
+                }
+            } catch (IOException e) {
+                logger.error("검색 재색인 취소 실패", e);
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                directory.close();
+                if (tempPath != null) {
+                    IOUtils.rm(tempPath);
+                }
+            } catch (IOException e) {
+                logger.error("검색 재색인 정리 실패", e);
+            }
+        }
+    }
+
+    // 검색 결과 (현재 페이지의 게시물 ID, 전체 개수)
+    public static class SearchResult {
+
+        private final List<Long> boardIds;
+        private final long totalHits;
+
+        public SearchResult(List<Long> boardIds, long totalHits) {
+            this.boardIds = boardIds;
+            this.totalHits = totalHits;
+        }
+
+        public List<Long> getBoardIds() {
+            return boardIds;
+        }
+
+        public long getTotalHits() {
+            return totalHits;
+        }
+    }
+
+}
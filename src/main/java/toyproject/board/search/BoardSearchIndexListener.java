@@ -0,0 +1,76 @@
+package toyproject.board.search;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import toyproject.board.domain.board.query.BoardQueryRepository;
+import toyproject.board.dto.board.query.BoardIndexDto;
+
+import java.util.List;
+
+/**
+ * 검색 색인 동기화
+ * - 게시물 변경은 트랜잭션 커밋 후에 반영 (롤백된 변경은 색인하지 않음)
+ * - 애플리케이션 시작 시 DB 기준으로 재색인 (별도 색인에 만든 뒤 교체하므로 재색인 중에도 검색 가능)
+ */
+@RequiredArgsConstructor
+@Component
+public class BoardSearchIndexListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoardSearchIndexListener.class);
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardQueryRepository boardQueryRepository;
+
+    @Value("${board.search.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    @TransactionalEventListener
+    public void onChanged(BoardChangedEvent event) {
+        if (boardSearchIndex.isEnabled()) {
+            boardSearchIndex.update(event.getBoard());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onDeleted(BoardDeletedEvent event) {
+        if (boardSearchIndex.isEnabled()) {
+            boardSearchIndex.delete(event.getBoardIds());
+        }
+    }
+
+    // 색인이 비어 있거나 rebuild-on-startup 이면 전체 재색인
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!boardSearchIndex.isEnabled() || (!rebuildOnStartup && boardSearchIndex.size() > 0)) {
+            return;
+        }
+
+        long count = 0;
+        try (BoardSearchIndex.Rebuild rebuild = boardSearchIndex.beginRebuild()) {
+            Long lastBoardId = 0L;
+            while (true) {
+                List<BoardIndexDto> chunk = boardQueryRepository.findIndexChunk(lastBoardId, CHUNK_SIZE);
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                rebuild.addAll(chunk);
+                count += chunk.size();
+                lastBoardId = chunk.get(chunk.size() - 1).getBoardId();
+            }
+
+            rebuild.swap();
+        }
+
+        logger.info("검색 색인 재생성 : {}건", count);
+    }
+
+}
@@ -0,0 +1,22 @@
+package toyproject.board.search;
+
+// 회원가입 이벤트 (커밋 후 이름 색인, 자동 완성에 반영)
+public class MemberJoinedEvent {
+
+    private final Long memberId;
+    private final String username;
+
+    public MemberJoinedEvent(Long memberId, String username) {
+        this.memberId = memberId;
+        this.username = username;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+}
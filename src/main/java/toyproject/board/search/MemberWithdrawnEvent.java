@@ -0,0 +1,22 @@
+package toyproject.board.search;
+
+// 회원 탈퇴 이벤트 (커밋 후 이름 색인, 자동 완성에서 제거)
+public class MemberWithdrawnEvent {
+
+    private final Long memberId;
+    private final String username;
+
+    public MemberWithdrawnEvent(Long memberId, String username) {
+        this.memberId = memberId;
+        this.username = username;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+}
@@ -0,0 +1,55 @@
+package toyproject.board.search;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 멤버 username, 게시물 작성자(nickname) 부분 문자열 색인
+ * - 검색 결과(ID 목록)는 DB 에서 PK 로 조회
+ * - 시작 시 적재가 끝나기 전(ready = false)에는 DB LIKE 검색을 사용
+ */
+@Component
+public class NameSearchIndex {
+
+    private final boolean enabled;
+    private final NgramIndex usernames = new NgramIndex();
+    private final NgramIndex nicknames = new NgramIndex();
+
+    private volatile boolean ready;
+
+    public NameSearchIndex(@Value("${board.name-index.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 검색에 사용할 수 있는 상태인지
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    void setReady(boolean ready) {
+        this.ready = ready;
+    }
+
+    // 멤버 ID 목록 (오름차순)
+    public long[] searchMemberIds(String username) {
+        return usernames.search(username);
+    }
+
+    // 게시물 ID 목록 (오름차순)
+    public long[] searchBoardIds(String nickname) {
+        return nicknames.search(nickname);
+    }
+
+    NgramIndex getUsernames() {
+        return usernames;
+    }
+
+    NgramIndex getNicknames() {
+        return nicknames;
+    }
+
+}
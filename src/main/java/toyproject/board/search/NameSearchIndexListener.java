@@ -0,0 +1,95 @@
+package toyproject.board.search;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import toyproject.board.domain.board.query.BoardQueryRepository;
+import toyproject.board.domain.member.query.MemberQueryRepository;
+import toyproject.board.dto.IdAndNameDto;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * 이름 색인 동기화
+ * - 회원가입, 탈퇴, 게시물 생성, 삭제를 트랜잭션 커밋 후에 반영
+ * - 애플리케이션 시작 시 DB 에서 전체 적재
+ */
+@RequiredArgsConstructor
+@Component
+public class NameSearchIndexListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(NameSearchIndexListener.class);
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final NameSearchIndex nameSearchIndex;
+    private final MemberQueryRepository memberQueryRepository;
+    private final BoardQueryRepository boardQueryRepository;
+
+    @TransactionalEventListener
+    public void onMemberJoined(MemberJoinedEvent event) {
+        if (nameSearchIndex.isEnabled()) {
+            nameSearchIndex.getUsernames().put(event.getMemberId(), event.getUsername());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onMemberWithdrawn(MemberWithdrawnEvent event) {
+        if (nameSearchIndex.isEnabled()) {
+            nameSearchIndex.getUsernames().remove(event.getMemberId());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (nameSearchIndex.isEnabled()) {
+            nameSearchIndex.getNicknames().put(event.getBoard().getBoardId(), event.getBoard().getNickname());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onBoardDeleted(BoardDeletedEvent event) {
+        if (nameSearchIndex.isEnabled()) {
+            event.getBoardIds().forEach(nameSearchIndex.getNicknames()::remove);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!nameSearchIndex.isEnabled()) {
+            return;
+        }
+
+        int members = load(nameSearchIndex.getUsernames(), memberQueryRepository::findUsernameChunk);
+        int boards = load(nameSearchIndex.getNicknames(), boardQueryRepository::findNicknameChunk);
+        nameSearchIndex.setReady(true);
+
+        logger.info("이름 색인 적재 : 멤버 {}명, 게시물 {}건", members, boards);
+    }
+
+    private int load(NgramIndex index, BiFunction<Long, Integer, List<IdAndNameDto>> chunkLoader) {
+        index.clear();
+
+        int count = 0;
+        Long lastId = 0L;
+        while (true) {
+            List<IdAndNameDto> chunk = chunkLoader.apply(lastId, CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            for (IdAndNameDto dto : chunk) {
+                index.put(dto.getId(), dto.getName());
+            }
+            count += chunk.size();
+            lastId = chunk.get(chunk.size() - 1).getId();
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,190 @@
+package toyproject.board.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 n-gram 색인 (ID -> 짧은 문자열)
+ * - 1, 2, 3-gram 을 ID 목록(정렬된 long 배열)에 색인
+ * - 세 글자 이하 검색어는 해당 n-gram 의 ID 목록이 곧 결과
+ * - 네 글자 이상은 가장 짧은 3-gram 목록을 후보로 두고 원래 문자열에 포함되는지 확인
+ * - n-gram 은 문자(char) 3개를 long 하나로 묶어서 키로 사용하므로 문자열을 만들지 않음
+ * - 대소문자 구분 없음
+ */
+public class NgramIndex {
+
+    private static final int MAX_GRAM = 3;
+    private static final long[] EMPTY = new long[0];
+
+    private final Map<Long, String> values = new HashMap<>();
+    private final Map<Long, IdList> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 추가 / 갱신
+    public void put(long id, String value) {
+        String text = normalize(value);
+
+        lock.writeLock().lock();
+        try {
+            String old = values.put(id, text);
+            if (old != null) {
+                updateGrams(id, old, false);
+            }
+            updateGrams(id, text, true);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            String old = values.remove(id);
+            if (old != null) {
+                updateGrams(id, old, false);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            values.clear();
+            postings.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return values.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 부분 문자열 검색
+     * - query 를 포함하는 ID 를 오름차순으로 반환
+     */
+    public long[] search(String query) {
+        String text = normalize(query);
+
+        lock.readLock().lock();
+        try {
+            if (text.isEmpty()) {
+                return values.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            }
+
+            if (text.length() <= MAX_GRAM) {
+                IdList posting = postings.get(key(text, 0, text.length()));
+                return posting == null ? EMPTY : posting.toArray();
+            }
+
+            IdList smallest = null;
+            for (int i = 0; i + MAX_GRAM <= text.length(); i++) {
+                IdList posting = postings.get(key(text, i, MAX_GRAM));
+                if (posting == null) {
+                    return EMPTY;
+                }
+                if (smallest == null || posting.size < smallest.size) {
+                    smallest = posting;
+                }
+            }
+
+            long[] result = new long[smallest.size];
+            int count = 0;
+            for (int i = 0; i < smallest.size; i++) {
+                long id = smallest.ids[i];
+                if (values.get(id).contains(text)) {
+                    result[count++] = id;
+                }
+            }
+            return Arrays.copyOf(result, count);
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void updateGrams(long id, String text, boolean add) {
+        for (int n = 1; n <= MAX_GRAM; n++) {
+            for (int i = 0; i + n <= text.length(); i++) {
+                Long key = key(text, i, n);
+                if (add) {
+                    postings.computeIfAbsent(key, k -> new IdList()).add(id);
+                } else {
+                    IdList posting = postings.get(key);
+                    if (posting != null && posting.remove(id) && posting.size == 0) {
+                        postings.remove(key);
+                    }
+                }
+            }
+        }
+    }
+
+    // 상위 비트에 길이, 하위 48비트에 문자 3개
+    private static long key(String text, int start, int length) {
+        long key = length;
+        for (int i = start; i < start + length; i++) {
+            key = (key << 16) | text.charAt(i);
+        }
+        return key;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    // 정렬된 ID 목록 (대부분 ID 가 증가하는 순서로 추가되므로 뒤에 붙임)
+    private static class IdList {
+
+        private long[] ids = new long[2];
+        private int size;
+
+        private void add(long id) {
+            if (size > 0 && ids[size - 1] < id) {
+                append(size, id);
+                return;
+            }
+
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return; // 같은 n-gram 이 한 문자열에 여러 번 나오는 경우
+            }
+            append(-index - 1, id);
+        }
+
+        private void append(int index, long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size + (size >> 1) + 1);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            ids[index] = id;
+            size++;
+        }
+
+        private boolean remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        private long[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+
+}
@@ -0,0 +1,294 @@
+package toyproject.board.search;
+
+import org.springframework.stereotype.Component;
+import toyproject.board.dto.IdAndNameDto;
+import toyproject.board.dto.member.query.MemberSuggestDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * username 자동 완성 (접두사 검색)
+ * - 정렬된 username 배열과 멤버 ID 배열만 보관 (엔트리당 객체 하나 + long 하나)
+ * - 조회는 이진 탐색 후 접두사가 일치하는 동안 순서대로 읽음 : O(log N + limit), 잠금 없음
+ * - 변경은 작은 변경분(추가된 엔트리, 삭제된 멤버 ID)에만 복사해서 교체 (copy-on-write) : O(변경분 크기)
+ *   변경분이 MERGE_THRESHOLD 를 넘으면 전체 배열에 병합 (N 건 복사가 MERGE_THRESHOLD 번 변경에 한 번)
+ * - 대소문자 구분 없이 정렬, 비교하고 원래 username 을 반환
+ */
+@Component
+public class UsernameSuggester {
+
+    private static final Comparator<String> ORDER = String.CASE_INSENSITIVE_ORDER;
+
+    private static final int MERGE_THRESHOLD = 256;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    // 적재 중 발생한 변경 (적재 결과에 다시 반영), 적재 중이 아니면 null
+    private List<Change> changesDuringLoad;
+
+    // 접두사가 일치하는 username 을 사전 순으로 limit 개
+    public List<MemberSuggestDto> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        Snapshot current = snapshot;
+
+        // 전체 배열과 추가된 엔트리를 병합하면서 읽고, 삭제된 멤버는 건너뜀
+        int index = lowerBound(current.usernames, prefix);
+        int addedIndex = lowerBound(current.addedUsernames, prefix);
+
+        List<MemberSuggestDto> result = new ArrayList<>(Math.min(limit, 16));
+        while (result.size() < limit) {
+            boolean hasBase = index < current.usernames.length
+                    && startsWithIgnoreCase(current.usernames[index], prefix);
+            boolean hasAdded = addedIndex < current.addedUsernames.length
+                    && startsWithIgnoreCase(current.addedUsernames[addedIndex], prefix);
+
+            if (hasBase && (!hasAdded || ORDER.compare(current.usernames[index], current.addedUsernames[addedIndex]) <= 0)) {
+                if (!current.isRemoved(current.memberIds[index])) {
+                    result.add(new MemberSuggestDto(current.memberIds[index], current.usernames[index]));
+                }
+                index++;
+            } else if (hasAdded) {
+                result.add(new MemberSuggestDto(current.addedMemberIds[addedIndex], current.addedUsernames[addedIndex]));
+                addedIndex++;
+            } else {
+                break;
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        Snapshot current = snapshot;
+        return current.usernames.length - current.removedMemberIds.length + current.addedUsernames.length;
+    }
+
+    public synchronized void add(Long memberId, String username) {
+        if (changesDuringLoad != null) {
+            changesDuringLoad.add(new Change(memberId, username, true));
+        }
+
+        Snapshot current = snapshot;
+        int index = lowerBound(current.addedUsernames, username);
+
+        String[] addedUsernames = insert(current.addedUsernames, index, username);
+        long[] addedMemberIds = insert(current.addedMemberIds, index, memberId);
+
+        publish(new Snapshot(current.usernames, current.memberIds, addedUsernames, addedMemberIds, current.removedMemberIds));
+    }
+
+    public synchronized void remove(Long memberId, String username) {
+        if (changesDuringLoad != null) {
+            changesDuringLoad.add(new Change(memberId, username, false));
+        }
+
+        Snapshot current = snapshot;
+
+        // 아직 병합되지 않은 엔트리면 변경분에서 제거
+        int addedIndex = indexOf(current.addedUsernames, current.addedMemberIds, memberId, username);
+        if (addedIndex >= 0) {
+            publish(new Snapshot(current.usernames, current.memberIds,
+                    delete(current.addedUsernames, addedIndex), delete(current.addedMemberIds, addedIndex),
+                    current.removedMemberIds));
+            return;
+        }
+
+        if (indexOf(current.usernames, current.memberIds, memberId, username) < 0 || current.isRemoved(memberId)) {
+            return;
+        }
+
+        int index = -Arrays.binarySearch(current.removedMemberIds, memberId) - 1;
+        long[] removedMemberIds = insert(current.removedMemberIds, index, memberId);
+
+        publish(new Snapshot(current.usernames, current.memberIds,
+                current.addedUsernames, current.addedMemberIds, removedMemberIds));
+    }
+
+    /**
+     * 적재 시작
+     * - 이후 load() 까지의 add / remove 를 기록해 두고, 적재 결과에 다시 반영
+     * - DB 를 읽는 동안 커밋된 회원가입 / 탈퇴가 적재 결과에 빠지지 않도록 DB 를 읽기 전에 호출
+     */
+    public synchronized void beginLoad() {
+        changesDuringLoad = new ArrayList<>();
+    }
+
+    // 전체 교체 (시작 시 적재), beginLoad() 이후의 변경을 다시 반영
+    public synchronized void load(Collection<IdAndNameDto> members) {
+        Map<Long, String> usernameById = new LinkedHashMap<>(members.size() * 2);
+        for (IdAndNameDto member : members) {
+            usernameById.put(member.getId(), member.getName());
+        }
+
+        if (changesDuringLoad != null) {
+            for (Change change : changesDuringLoad) {
+                if (change.added) {
+                    usernameById.put(change.memberId, change.username);
+                } else {
+                    usernameById.remove(change.memberId);
+                }
+            }
+            changesDuringLoad = null;
+        }
+
+        List<Map.Entry<Long, String>> sorted = new ArrayList<>(usernameById.entrySet());
+        sorted.sort(Map.Entry.comparingByValue(ORDER));
+
+        String[] usernames = new String[sorted.size()];
+        long[] memberIds = new long[sorted.size()];
+        for (int i = 0; i < usernames.length; i++) {
+            usernames[i] = sorted.get(i).getValue();
+            memberIds[i] = sorted.get(i).getKey();
+        }
+
+        snapshot = new Snapshot(usernames, memberIds, Snapshot.EMPTY.addedUsernames,
+                Snapshot.EMPTY.addedMemberIds, Snapshot.EMPTY.removedMemberIds);
+    }
+
+    // 변경분이 커지면 전체 배열에 병합해서 교체
+    private void publish(Snapshot next) {
+        snapshot = next.addedUsernames.length + next.removedMemberIds.length > MERGE_THRESHOLD
+                ? next.merge()
+                : next;
+    }
+
+    // username 과 멤버 ID 가 모두 일치하는 위치 (대소문자만 다른 username 이 있을 수 있으므로 ID 까지 확인)
+    private static int indexOf(String[] usernames, long[] memberIds, long memberId, String username) {
+        int index = lowerBound(usernames, username);
+        while (index < usernames.length && ORDER.compare(usernames[index], username) == 0) {
+            if (memberIds[index] == memberId) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    // key 이상인 첫 번째 위치
+    private static int lowerBound(String[] usernames, String key) {
+        int index = Arrays.binarySearch(usernames, key, ORDER);
+        if (index < 0) {
+            return -index - 1;
+        }
+        while (index > 0 && ORDER.compare(usernames[index - 1], key) == 0) {
+            index--;
+        }
+        return index;
+    }
+
+    private static boolean startsWithIgnoreCase(String username, String prefix) {
+        return username.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+
+    private static String[] insert(String[] array, int index, String value) {
+        String[] result = new String[array.length + 1];
+        System.arraycopy(array, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(array, index, result, index + 1, array.length - index);
+        return result;
+    }
+
+    private static long[] insert(long[] array, int index, long value) {
+        long[] result = new long[array.length + 1];
+        System.arraycopy(array, 0, result, 0, index);
+        result[index] = value;
+        System.arraycopy(array, index, result, index + 1, array.length - index);
+        return result;
+    }
+
+    private static String[] delete(String[] array, int index) {
+        String[] result = new String[array.length - 1];
+        System.arraycopy(array, 0, result, 0, index);
+        System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+        return result;
+    }
+
+    private static long[] delete(long[] array, int index) {
+        long[] result = new long[array.length - 1];
+        System.arraycopy(array, 0, result, 0, index);
+        System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+        return result;
+    }
+
+    private static class Snapshot {
+
+        private static final Snapshot EMPTY = new Snapshot(new String[0], new long[0], new String[0], new long[0], new long[0]);
+
+        // 병합된 전체 엔트리 (username 순)
+        private final String[] usernames;
+        private final long[] memberIds;
+
+        // 병합 전에 추가된 엔트리 (username 순)
+        private final String[] addedUsernames;
+        private final long[] addedMemberIds;
+
+        // 병합 전에 삭제된 전체 엔트리의 멤버 ID (오름차순)
+        private final long[] removedMemberIds;
+
+        private Snapshot(String[] usernames, long[] memberIds,
+                         String[] addedUsernames, long[] addedMemberIds, long[] removedMemberIds) {
+            this.usernames = usernames;
+            this.memberIds = memberIds;
+            this.addedUsernames = addedUsernames;
+            this.addedMemberIds = addedMemberIds;
+            this.removedMemberIds = removedMemberIds;
+        }
+
+        private boolean isRemoved(long memberId) {
+            return removedMemberIds.length > 0 && Arrays.binarySearch(removedMemberIds, memberId) >= 0;
+        }
+
+        // 삭제된 엔트리를 빼고 추가된 엔트리를 끼워 넣은 전체 배열
+        private Snapshot merge() {
+            int length = usernames.length - removedMemberIds.length + addedUsernames.length;
+            String[] mergedUsernames = new String[length];
+            long[] mergedMemberIds = new long[length];
+
+            int index = 0;
+            int addedIndex = 0;
+            int merged = 0;
+            while (index < usernames.length || addedIndex < addedUsernames.length) {
+                if (index < usernames.length
+                        && (addedIndex >= addedUsernames.length || ORDER.compare(usernames[index], addedUsernames[addedIndex]) <= 0)) {
+                    if (!isRemoved(memberIds[index])) {
+                        mergedUsernames[merged] = usernames[index];
+                        mergedMemberIds[merged] = memberIds[index];
+                        merged++;
+                    }
+                    index++;
+                } else {
+                    mergedUsernames[merged] = addedUsernames[addedIndex];
+                    mergedMemberIds[merged] = addedMemberIds[addedIndex];
+                    merged++;
+                    addedIndex++;
+                }
+            }
+
+            return new Snapshot(mergedUsernames, mergedMemberIds,
+                    EMPTY.addedUsernames, EMPTY.addedMemberIds, EMPTY.removedMemberIds);
+        }
+    }
+
+    private static class Change {
+
+        private final long memberId;
+        private final String username;
+        private final boolean added;
+
+        private Change(long memberId, String username, boolean added) {
+            this.memberId = memberId;
+            this.username = username;
+            this.added = added;
+        }
+    }
+
+}
@@ -0,0 +1,62 @@
+package toyproject.board.search;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import toyproject.board.domain.member.query.MemberQueryRepository;
+import toyproject.board.dto.IdAndNameDto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * username 자동 완성 동기화
+ * - 회원가입, 탈퇴를 트랜잭션 커밋 후에 반영
+ * - 애플리케이션 시작 시 DB 에서 전체 적재 (적재 중의 회원가입, 탈퇴는 적재 결과에 다시 반영)
+ */
+@RequiredArgsConstructor
+@Component
+public class UsernameSuggesterListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(UsernameSuggesterListener.class);
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final UsernameSuggester usernameSuggester;
+    private final MemberQueryRepository memberQueryRepository;
+
+    @TransactionalEventListener
+    public void onMemberJoined(MemberJoinedEvent event) {
+        usernameSuggester.add(event.getMemberId(), event.getUsername());
+    }
+
+    @TransactionalEventListener
+    public void onMemberWithdrawn(MemberWithdrawnEvent event) {
+        usernameSuggester.remove(event.getMemberId(), event.getUsername());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        usernameSuggester.beginLoad();
+
+        List<IdAndNameDto> members = new ArrayList<>();
+
+        Long lastMemberId = 0L;
+        while (true) {
+            List<IdAndNameDto> chunk = memberQueryRepository.findUsernameChunk(lastMemberId, CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            members.addAll(chunk);
+            lastMemberId = chunk.get(chunk.size() - 1).getId();
+        }
+
+        usernameSuggester.load(members);
+        logger.info("자동 완성 적재 : 멤버 {}명", members.size());
+    }
+
+}
@@ -0,0 +1,123 @@
+package toyproject.board.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import toyproject.board.auth.LoginMember;
+import toyproject.board.cache.BoardDetailCache;
+import toyproject.board.dto.board.query.BoardQueryDto;
+import toyproject.board.dto.comment.query.CommentQueryDto;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * 게시물 상세 조회 (게시물 + 댓글 페이지)
+ * - parallel 이면 게시물, 댓글 페이지 내용, 댓글 수 쿼리를 전용 풀에서 동시에 실행하고 합침
+ *   (응답 시간 ~ 가장 느린 쿼리 하나)
+ * - 풀과 대기열 크기를 제한하고, 대기열이 가득 차면 요청 스레드에서 직접 실행 (CallerRunsPolicy)
+ * - 쿼리마다 커넥션을 하나씩 사용하므로 풀 크기는 커넥션 풀(maximum-pool-size)의 1/3 이내로 제한
+ *   (상세 조회가 커넥션을 모두 차지해서 다른 요청이 커넥션을 기다리지 않도록)
+ * - 쿼리마다 다른 스레드, 다른 트랜잭션에서 실행되므로 같은 시점의 스냅샷은 아님
+ */
+@Service
+public class BoardDetailService {
+
+    private final BoardService boardService;
+    private final CommentService commentService;
+    private final BoardDetailCache boardDetailCache;
+
+    private final boolean parallel;
+    private final ThreadPoolExecutor executor;
+
+    public BoardDetailService(BoardService boardService,
+                              CommentService commentService,
+                              BoardDetailCache boardDetailCache,
+                              @Value("${board.detail.parallel:true}") boolean parallel,
+                              @Value("${board.detail.pool-size:3}") int poolSize,
+                              @Value("${board.detail.queue-capacity:200}") int queueCapacity,
+                              @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumConnections) {
+        this.boardService = boardService;
+        this.commentService = commentService;
+        this.boardDetailCache = boardDetailCache;
+        this.parallel = parallel;
+
+        poolSize = Math.max(1, Math.min(poolSize, maximumConnections / 3));
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new DetailThreadFactory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public <T> CompletableFuture<T> getBoardDetail(Long boardId, LoginMember member, String ip, Pageable pageable,
+                                                   BiFunction<BoardQueryDto, Page<CommentQueryDto>, T> combiner) {
+
+        if (!parallel) {
+            BoardQueryDto board = boardService.getBoard(boardId, member, ip);
+            Page<CommentQueryDto> comments = commentService.getCommentsPage(boardId, pageable);
+            return CompletableFuture.completedFuture(combiner.apply(board, comments));
+        }
+
+        CompletableFuture<BoardQueryDto> board =
+                CompletableFuture.supplyAsync(() -> boardService.getBoard(boardId, member, ip), executor);
+
+        return board.thenCombine(getCommentsPage(boardId, pageable), combiner);
+    }
+
+    private CompletableFuture<Page<CommentQueryDto>> getCommentsPage(Long boardId, Pageable pageable) {
+
+        // 첫 페이지는 BoardDetailCache 에서 조회되므로 나누지 않음
+        if (pageable.getPageNumber() == 0 && boardDetailCache.isEnabled()) {
+            return CompletableFuture.supplyAsync(() -> commentService.getCommentsPage(boardId, pageable), executor);
+        }
+
+        CompletableFuture<List<CommentQueryDto>> content =
+                CompletableFuture.supplyAsync(() -> commentService.getCommentsContent(boardId, pageable), executor);
+        CompletableFuture<Long> total =
+                CompletableFuture.supplyAsync(() -> commentService.countComments(boardId), executor);
+
+        return content.thenCombine(total, (list, count) -> toPage(list, count, pageable))
+                .thenCompose(page -> {
+                    // 마지막 페이지보다 큰 페이지번호로 요청하면 마지막 페이지를 반환 (CommentService.getCommentsPage 와 동일)
+                    if (page.getTotalElements() != 0 && pageable.getPageNumber() >= page.getTotalPages()) {
+                        PageRequest lastPage = PageRequest.of(page.getTotalPages() - 1, pageable.getPageSize());
+                        return CompletableFuture.supplyAsync(() -> commentService.getCommentsPage(boardId, lastPage), executor);
+                    }
+                    return CompletableFuture.completedFuture(page);
+                });
+    }
+
+    private static Page<CommentQueryDto> toPage(List<CommentQueryDto> content, long total, Pageable pageable) {
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static class DetailThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "board-detail-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
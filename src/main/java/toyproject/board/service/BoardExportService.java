@@ -0,0 +1,153 @@
+package toyproject.board.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import toyproject.board.domain.board.Board;
+import toyproject.board.domain.comment.Comment;
+import toyproject.board.dto.board.BoardExportDto;
+import toyproject.board.dto.comment.CommentExportDto;
+
+import javax.persistence.EntityManager;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * 전체 게시물 내보내기 (NDJSON)
+ * - 게시물을 모두 쓴 뒤 (type: board) 댓글을 게시물 ID 순으로 씀 (type: comment, 선택)
+ * - 읽기 전용 트랜잭션에서 forward-only 커서로 한 건씩 읽고, clear-interval 건마다 영속성 컨텍스트를 비워서
+ *   테이블 크기와 관계없이 메모리 사용량 유지 (2차 캐시에도 넣지 않음)
+ * - fetch-size 기본값 Integer.MIN_VALUE 는 MySQL 드라이버의 행 단위 스트리밍
+ *   (스트리밍 중에는 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로 게시물, 댓글 커서를 차례로 염)
+ */
+@Service
+public class BoardExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoardExportService.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final EntityManager em;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int fetchSize;
+    private final int clearInterval;
+    private final long timeout;
+
+    public BoardExportService(EntityManager em,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${board.export.fetch-size:-2147483648}") int fetchSize,
+                              @Value("${board.export.clear-interval:1000}") int clearInterval,
+                              @Value("${board.export.timeout:600000}") long timeout) {
+        this.em = em;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.fetchSize = fetchSize;
+        this.clearInterval = clearInterval;
+        this.timeout = timeout;
+    }
+
+    // 내보내기 요청 타임아웃 (ms)
+    public long getTimeout() {
+        return timeout;
+    }
+
+    public void export(boolean withComments, OutputStream outputStream) throws IOException {
+
+        long start = System.currentTimeMillis();
+        BufferedOutputStream out = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+
+                Session session = em.unwrap(Session.class);
+                session.setCacheMode(CacheMode.IGNORE);
+
+                long boards = exportBoards(session, out);
+                long comments = withComments ? exportComments(session, out) : 0;
+
+                logger.info("게시물 내보내기 : 게시물 {}건, 댓글 {}건, {}ms",
+                        boards, comments, System.currentTimeMillis() - start);
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        out.flush();
+    }
+
+    private long exportBoards(Session session, OutputStream out) {
+
+        try (ScrollableResults rows = session
+                .createQuery("select b, m.id from Board b left join b.member m order by b.id")
+                .setReadOnly(true)
+                .setFetchSize(fetchSize)
+                .setCacheMode(CacheMode.IGNORE)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+
+            long count = 0;
+            while (rows.next()) {
+                write(out, new BoardExportDto((Board) rows.get(0), (Long) rows.get(1)));
+                clearIfNeeded(session, out, ++count);
+            }
+
+            session.clear();
+            return count;
+        }
+    }
+
+    private long exportComments(Session session, OutputStream out) {
+
+        try (ScrollableResults rows = session
+                .createQuery("select c, c.board.id, m.id from Comment c left join c.member m order by c.board.id, c.id")
+                .setReadOnly(true)
+                .setFetchSize(fetchSize)
+                .setCacheMode(CacheMode.IGNORE)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+
+            long count = 0;
+            while (rows.next()) {
+                write(out, new CommentExportDto((Comment) rows.get(0), (Long) rows.get(1), (Long) rows.get(2)));
+                clearIfNeeded(session, out, ++count);
+            }
+
+            session.clear();
+            return count;
+        }
+    }
+
+    // clear-interval 건마다 영속성 컨텍스트를 비우고 지금까지 쓴 내용을 클라이언트로 보냄
+    private void clearIfNeeded(Session session, OutputStream out, long count) {
+        if (count % clearInterval == 0) {
+            session.clear();
+            try {
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void write(OutputStream out, Object row) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(row));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -1,25 +1,36 @@
 package toyproject.board.service;
 
 import lombok.RequiredArgsConstructor;
-import org.mindrot.jbcrypt.BCrypt;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
+import toyproject.board.auth.LoginMember;
+import toyproject.board.cache.BoardDetailCache;
+import toyproject.board.cache.BoardListCache;
 import toyproject.board.domain.board.Board;
 import toyproject.board.domain.board.BoardRepository;
 import toyproject.board.domain.board.query.BoardQueryRepository;
 import toyproject.board.domain.comment.CommentRepository;
 import toyproject.board.domain.member.Member;
+import toyproject.board.domain.member.MemberRepository;
 import toyproject.board.dto.board.command.*;
 import toyproject.board.dto.board.query.BoardAndCommentCount;
+import toyproject.board.dto.board.query.BoardCursor;
+import toyproject.board.dto.board.query.BoardCursorSlice;
 import toyproject.board.dto.board.query.BoardQueryDto;
 import toyproject.board.dto.board.query.BoardSearchCondition;
 import toyproject.board.dto.CheckPasswordDto;
+import toyproject.board.search.BoardChangedEvent;
+import toyproject.board.search.BoardDeletedEvent;
+import toyproject.board.trending.BoardViewedEvent;
 
 import javax.validation.Valid;
+import java.util.Collections;
 
 import static org.springframework.util.StringUtils.hasText;
 
@@ -30,19 +41,30 @@ import static org.springframework.util.StringUtils.hasText;
 public class BoardService {
 
     private final BoardRepository boardRepository;
+    private final MemberRepository memberRepository;
     private final BoardQueryRepository boardQueryRepository;
     private final CommentRepository commentRepository;
+    private final BoardViewCounter boardViewCounter;
+    private final ViewDedupFilter viewDedupFilter;
+    private final BoardDetailCache boardDetailCache;
+    private final BoardListCache boardListCache;
+    private final PasswordHashingService passwordHashingService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 게시물 생성 (로그인)
     @Transactional
     @Validated
     public Long createBoard(@Valid CreateBoardLoginDto dto) {
 
-        Member member = dto.getMember();
-        dto.setNickname(member.getUsername());
+        dto.setNickname(dto.getMember().getUsername());
 
-        Board board = dto.toEntity();
+        // 탈퇴한 멤버는 거절 (다른 세션, 토큰은 탈퇴 후에도 남아 있고, 정리 작업이 지난 뒤 작성하면 멤버 삭제가 FK 로 실패)
+        Member member = memberRepository.findById(dto.getMember().getId())
+                .filter(m -> !m.isWithdrawn())
+                .orElseThrow(() -> new IllegalArgumentException("탈퇴한 회원입니다."));
+        Board board = dto.toEntity(member);
         boardRepository.save(board);
+        eventPublisher.publishEvent(new BoardChangedEvent(board.toIndexDto()));
 
         return board.getId();
     }
@@ -52,12 +74,11 @@ public class BoardService {
     @Validated
     public Long createBoard(@Valid CreateBoardNotLoginDto dto) {
 
-        dto.setPassword(
-                BCrypt.hashpw(dto.getPassword(), BCrypt.gensalt(10))
-        );
+        dto.setPassword(passwordHashingService.hash(dto.getPassword()));
 
         Board board = dto.toEntity();
         boardRepository.save(board);
+        eventPublisher.publishEvent(new BoardChangedEvent(board.toIndexDto()));
 
         return board.getId();
     }
@@ -72,6 +93,7 @@ public class BoardService {
 
         commentRepository.deleteByBoardId(board.getId());
         boardRepository.delete(board);
+        eventPublisher.publishEvent(new BoardDeletedEvent(Collections.singletonList(board.getId())));
 
     }
 
@@ -85,6 +107,7 @@ public class BoardService {
 
         commentRepository.deleteByBoardId(board.getId());
         boardRepository.delete(board);
+        eventPublisher.publishEvent(new BoardDeletedEvent(Collections.singletonList(board.getId())));
 
     }
 
@@ -97,6 +120,7 @@ public class BoardService {
             Board board = getBoardWithPassword(dto.getId());
             checkMemberId(board.getMember().getId(), dto.getMember().getId(), false);
             updateTitleAndContent(dto.getTitle(), dto.getContent(), board);
+            eventPublisher.publishEvent(new BoardChangedEvent(board.toIndexDto()));
         }
 
     }
@@ -110,6 +134,7 @@ public class BoardService {
             Board board = getBoardWithPassword(dto.getId());
             checkPassword(dto.getPassword(), board.getPassword());
             updateTitleAndContent(dto.getTitle(), dto.getContent(), board);
+            eventPublisher.publishEvent(new BoardChangedEvent(board.toIndexDto()));
         }
 
     }
@@ -125,7 +150,7 @@ public class BoardService {
 
     // 해시된 비밀번호와 순수한 비밀번호와 동일한지 판단
     private void checkPassword(String plainPassword, String hashed) {
-        boolean isMatch = BCrypt.checkpw(plainPassword, hashed);
+        boolean isMatch = passwordHashingService.matches(plainPassword, hashed);
         if (!isMatch) {
             throw new IllegalArgumentException("비밀번호를 다시 확인해 주세요.");
         }
@@ -167,31 +192,43 @@ public class BoardService {
     }
 
     // 게시물 상세 조회
-    // 조회 수 + 1
-    @Transactional
-    public BoardQueryDto getBoard(Long boardId, Member member) {
-
-        // TODO : 조회수 업데이트 로직 메서드로 분리
+    // 조회 수 + 1 (BoardViewCounter 에 누적 후 일괄 반영)
+    // 같은 멤버(비로그인은 IP)의 반복 조회는 ViewDedupFilter 로 걸러냄
+    // 게시물은 BoardDetailCache 에서 조회 (캐시에 없을 때만 SELECT)
+    public BoardQueryDto getBoard(Long boardId, LoginMember member, String ip) {
 
-        Board board = getBoardWithPassword(boardId);
+        BoardQueryDto board = boardDetailCache.getBoard(boardId, id -> getBoardWithPassword(id).toQueryDto());
 
-        if (member == null) {
-            board.updateViews();
+        Long memberId = member != null ? member.getId() : null;
+        if (!isWriter(board, member) && viewDedupFilter.isFirstView(boardId, memberId, ip)) {
+            boardViewCounter.increase(boardId);
+            eventPublisher.publishEvent(new BoardViewedEvent(boardId));
         }
 
-        if (member != null) {
-            if (board.getMember().getId() != member.getId()) {
-                board.updateViews();
-            }
-            // TODO : 작성자 IP와 요청 IP 비교
-        }
+        // 아직 DB 에 반영되지 않은 조회 수를 더해서 반환
+        board.setViews(board.getViews() + (int) boardViewCounter.getPending(boardId));
 
-        return board.toQueryDto();
+        return board;
+    }
+
+    // 게시물 작성자가 요청한 멤버인지 판단
+    private boolean isWriter(BoardQueryDto board, LoginMember member) {
+        return member != null && member.getId().equals(board.getMemberId());
     }
 
     // 게시물 리스트 쿼리 (검색 X)
+    // 앞 페이지는 BoardListCache 스냅샷으로 응답
     public Page<BoardAndCommentCount> getBoardList(Pageable pageable) {
 
+        if (boardListCache.isCacheable(pageable)) {
+            return boardListCache.get(pageable, this::loadBoardList);
+        }
+
+        return loadBoardList(pageable);
+    }
+
+    private Page<BoardAndCommentCount> loadBoardList(Pageable pageable) {
+
         Page<BoardAndCommentCount> result = boardQueryRepository.getBoardList(pageable);
 
         if (result.getTotalElements() != 0 && pageable.getPageNumber() >= result.getTotalPages()) {
@@ -202,6 +239,23 @@ public class BoardService {
         return result;
     }
 
+    /**
+     * 게시물 리스트 쿼리 (커서)
+     * - after: 커서 다음(더 오래된) 게시물, before: 커서 이전(더 최신) 게시물
+     * - 커서가 빈 문자열이면 after 는 첫 페이지, before 는 마지막 페이지
+     */
+    public BoardCursorSlice getBoardListByCursor(String after, String before, Pageable pageable) {
+
+        boolean isNext = before == null;
+        String cursor = isNext ? after : before;
+        BoardCursor boardCursor = hasText(cursor) ? BoardCursor.decode(cursor) : null;
+
+        Slice<BoardAndCommentCount> result = boardQueryRepository.getBoardListByCursor(boardCursor, isNext, pageable);
+
+        return BoardCursorSlice.of(result.getContent(), pageable.getPageSize(),
+                boardCursor != null, result.hasNext(), isNext);
+    }
+
     // 게시물 검색 쿼리
     // 닉네임, 제목, 내용, 생성 날짜 정렬
     public Page<BoardAndCommentCount> searchBoard(BoardSearchCondition condition, Pageable pageable) {
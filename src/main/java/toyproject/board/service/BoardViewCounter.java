@@ -0,0 +1,77 @@
+package toyproject.board.service;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import toyproject.board.cache.BoardDetailCache;
+import toyproject.board.domain.board.BoardRepository;
+
+import javax.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시물 조회 수 누적기 (write-behind)
+ * - 조회 요청마다 게시물 row 를 UPDATE 하지 않고 게시물 ID 별로 메모리에 누적
+ * - 주기적으로, 그리고 애플리케이션 종료 시 배치 UPDATE 로 DB 에 반영
+ */
+@RequiredArgsConstructor
+@Component
+public class BoardViewCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoardViewCounter.class);
+
+    // ConcurrentHashMap 의 merge 는 해시 버킷 단위로만 잠금
+    private final ConcurrentHashMap<Long, Long> pending = new ConcurrentHashMap<>();
+
+    private final BoardRepository boardRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BoardDetailCache boardDetailCache;
+
+    // 조회 수 + 1
+    public void increase(Long boardId) {
+        pending.merge(boardId, 1L, Long::sum);
+    }
+
+    // 아직 DB 에 반영되지 않은 조회 수
+    public long getPending(Long boardId) {
+        return pending.getOrDefault(boardId, 0L);
+    }
+
+    // 누적된 조회 수를 DB 에 반영
+    @Scheduled(fixedDelayString = "${board.views.flush-interval:1000}")
+    public void flush() {
+
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> views = new HashMap<>();
+        for (Long boardId : pending.keySet()) {
+            Long count = pending.remove(boardId);
+            if (count != null) {
+                views.put(boardId, count);
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> boardRepository.addViews(views));
+            // 반영된 조회 수가 pending 에서 빠졌으므로 캐시된 게시물도 다시 조회
+            boardDetailCache.evictBoardsOnly(views.keySet());
+        } catch (RuntimeException e) {
+            // 반영에 실패하면 다음 주기에 다시 시도
+            views.forEach((boardId, count) -> pending.merge(boardId, count, Long::sum));
+            logger.error("Failed to flush board views: {} boards", views.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        flush();
+    }
+
+}
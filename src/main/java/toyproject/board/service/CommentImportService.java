@@ -0,0 +1,178 @@
+package toyproject.board.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import toyproject.board.cache.CommentChangedEvent;
+import toyproject.board.domain.board.Board;
+import toyproject.board.domain.board.BoardRepository;
+import toyproject.board.domain.board.query.BoardQueryRepository;
+import toyproject.board.dto.comment.CommentImportChunkDto;
+import toyproject.board.dto.comment.command.CreateCommentNotLoginDto;
+
+import javax.persistence.EntityManager;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 대량 가져오기 (비로그인 댓글)
+ * - 요청 본문(JSON 배열 또는 NDJSON)을 한 건씩 읽어서 chunk-size 단위로 처리 (본문 전체를 메모리에 올리지 않음)
+ * - 청크마다 : 검증 -> 게시물 존재 여부 IN 조회 한 번 -> 비밀번호 병렬 해시 -> 트랜잭션 하나로 배치 INSERT
+ * - 잘못된 댓글, 없는 게시물의 댓글은 건너뜀
+ * - 이미 커밋된 청크는 이후 청크가 실패해도 유지
+ */
+@Service
+public class CommentImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommentImportService.class);
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager em;
+    private final BoardRepository boardRepository;
+    private final BoardQueryRepository boardQueryRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final boolean enabled;
+    private final int chunkSize;
+
+    public CommentImportService(ObjectMapper objectMapper,
+                                Validator validator,
+                                EntityManager em,
+                                BoardRepository boardRepository,
+                                BoardQueryRepository boardQueryRepository,
+                                PasswordHashingService passwordHashingService,
+                                TransactionTemplate transactionTemplate,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${board.import.enabled:false}") boolean enabled,
+                                @Value("${board.import.chunk-size:1000}") int chunkSize) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.em = em;
+        this.boardRepository = boardRepository;
+        this.boardQueryRepository = boardQueryRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+    }
+
+    public List<CommentImportChunkDto> importComments(InputStream body) throws IOException {
+
+        if (!enabled) {
+            throw new IllegalArgumentException("댓글 가져오기가 비활성화되어 있습니다.");
+        }
+
+        List<CommentImportChunkDto> result = new ArrayList<>();
+        List<CreateCommentNotLoginDto> chunk = new ArrayList<>(chunkSize);
+        long read = 0;
+
+        // 루트가 배열이면 배열의 원소를, 아니면 공백으로 구분된 객체(NDJSON)를 차례로 읽음
+        try (MappingIterator<CreateCommentNotLoginDto> iterator = objectMapper
+                .readerFor(CreateCommentNotLoginDto.class)
+                .readValues(body)) {
+
+            CreateCommentNotLoginDto dto;
+            while ((dto = next(iterator, read, result)) != null) {
+                chunk.add(dto);
+                read++;
+
+                if (chunk.size() == chunkSize) {
+                    result.add(importChunk(result.size() + 1, chunk));
+                    chunk.clear();
+                }
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            result.add(importChunk(result.size() + 1, chunk));
+        }
+
+        return result;
+    }
+
+    // 다음 댓글 (없으면 null), 읽을 수 없으면 이미 커밋된 청크의 저장 건수와 함께 실패
+    private CreateCommentNotLoginDto next(MappingIterator<CreateCommentNotLoginDto> iterator, long read,
+                                          List<CommentImportChunkDto> committed) throws IOException {
+        try {
+            return iterator.hasNextValue() ? iterator.nextValue() : null;
+        } catch (JsonProcessingException e) {
+            long imported = committed.stream().mapToLong(CommentImportChunkDto::getImported).sum();
+            throw new IllegalArgumentException((read + 1) + "번째 댓글을 읽을 수 없습니다. ("
+                    + committed.size() + "개 청크, " + imported + "건 저장됨)");
+        }
+    }
+
+    private CommentImportChunkDto importChunk(int chunkNumber, List<CreateCommentNotLoginDto> chunk) {
+
+        long start = System.nanoTime();
+
+        // 검증
+        List<CreateCommentNotLoginDto> valid = chunk.stream()
+                .filter(dto -> validator.validate(dto).isEmpty())
+                .collect(Collectors.toList());
+
+        // 게시물 존재 여부 (IN 조회 한 번)
+        Set<Long> boardIds = valid.stream()
+                .map(CreateCommentNotLoginDto::getBoardId)
+                .collect(Collectors.toSet());
+        Set<Long> existing = new HashSet<>(boardQueryRepository.findExistingIds(boardIds));
+        valid.removeIf(dto -> !existing.contains(dto.getBoardId()));
+
+        // 비밀번호 병렬 해시
+        List<String> hashed = passwordHashingService.hashAll(valid.stream()
+                .map(CreateCommentNotLoginDto::getPassword)
+                .collect(Collectors.toList()));
+
+        // 저장 (ID 를 미리 할당하므로 hibernate.jdbc.batch_size 단위로 배치 INSERT)
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, Long> countByBoard = new HashMap<>();
+
+            for (int i = 0; i < valid.size(); i++) {
+                CreateCommentNotLoginDto dto = valid.get(i);
+                dto.setPassword(hashed.get(i));
+
+                Board board = em.getReference(Board.class, dto.getBoardId());
+                em.persist(dto.toEntity(board));
+                countByBoard.merge(dto.getBoardId(), 1L, Long::sum);
+            }
+
+            em.flush();
+            em.clear();
+
+            countByBoard.forEach(boardRepository::addCommentCount);
+            countByBoard.keySet().forEach(boardId -> eventPublisher.publishEvent(new CommentChangedEvent(boardId)));
+        });
+
+        CommentImportChunkDto result = CommentImportChunkDto.builder()
+                .chunk(chunkNumber)
+                .imported(valid.size())
+                .skipped(chunk.size() - valid.size())
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                .build();
+
+        logger.info("댓글 가져오기 {}번째 청크 : {}건 저장, {}건 건너뜀, {}ms",
+                chunkNumber, result.getImported(), result.getSkipped(), result.getElapsedMillis());
+
+        return result;
+    }
+
+}
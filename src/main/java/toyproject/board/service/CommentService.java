@@ -1,22 +1,28 @@
 package toyproject.board.service;
 
 import lombok.RequiredArgsConstructor;
-import org.mindrot.jbcrypt.BCrypt;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
+import toyproject.board.cache.BoardDetailCache;
+import toyproject.board.cache.CommentChangedEvent;
 import toyproject.board.domain.board.Board;
 import toyproject.board.domain.board.BoardRepository;
 import toyproject.board.domain.comment.Comment;
 import toyproject.board.domain.comment.CommentRepository;
+import toyproject.board.domain.member.Member;
+import toyproject.board.domain.member.MemberRepository;
 import toyproject.board.dto.CheckPasswordDto;
 import toyproject.board.dto.comment.command.*;
 import toyproject.board.dto.comment.query.CommentQueryDto;
+import toyproject.board.trending.CommentCreatedEvent;
 
 import javax.validation.Valid;
+import java.util.List;
 
 @RequiredArgsConstructor
 @Validated
@@ -26,6 +32,10 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final BoardRepository boardRepository;
+    private final MemberRepository memberRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final BoardDetailCache boardDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 댓글 생성 (로그인)
     @Transactional
@@ -35,8 +45,16 @@ public class CommentService {
         Board board = boardRepository.findById(dto.getBoardId())
                 .orElseThrow(() -> new IllegalArgumentException("게시물을 찾을 수 없습니다."));
 
-        Comment comment = dto.toEntity(board);
+        // 탈퇴한 멤버는 거절 (다른 세션, 토큰은 탈퇴 후에도 남아 있고, 정리 작업이 지난 뒤 작성하면 멤버 삭제가 FK 로 실패)
+        Member member = memberRepository.findById(dto.getMember().getId())
+                .filter(m -> !m.isWithdrawn())
+                .orElseThrow(() -> new IllegalArgumentException("탈퇴한 회원입니다."));
+
+        Comment comment = dto.toEntity(board, member);
         commentRepository.save(comment);
+        boardRepository.addCommentCount(board.getId(), 1);
+        eventPublisher.publishEvent(new CommentChangedEvent(board.getId()));
+        eventPublisher.publishEvent(new CommentCreatedEvent(board.getId()));
 
         return comment.getId();
     }
@@ -49,10 +67,13 @@ public class CommentService {
         Board board = boardRepository.findById(dto.getBoardId())
                 .orElseThrow(() -> new IllegalArgumentException("게시물을 찾을 수 없습니다."));
 
-        dto.setPassword(BCrypt.hashpw(dto.getPassword(), BCrypt.gensalt(10)));
+        dto.setPassword(passwordHashingService.hash(dto.getPassword()));
 
         Comment comment = dto.toEntity(board);
         commentRepository.save(comment);
+        boardRepository.addCommentCount(board.getId(), 1);
+        eventPublisher.publishEvent(new CommentChangedEvent(board.getId()));
+        eventPublisher.publishEvent(new CommentCreatedEvent(board.getId()));
 
         return comment.getId();
     }
@@ -71,6 +92,7 @@ public class CommentService {
         }
 
         comment.updateContent(dto.getContent());
+        eventPublisher.publishEvent(new CommentChangedEvent(comment.getBoard().getId()));
 
         return comment.getId();
     }
@@ -84,12 +106,13 @@ public class CommentService {
 
         String hashed = comment.getPassword();
         String plainPassword = dto.getPassword();
-        boolean isMatch = BCrypt.checkpw(plainPassword, hashed);
+        boolean isMatch = passwordHashingService.matches(plainPassword, hashed);
         if (!isMatch) {
             throw new IllegalArgumentException("비밀번호를 다시 확인해 주세요.");
         }
 
         comment.updateContent(dto.getContent());
+        eventPublisher.publishEvent(new CommentChangedEvent(comment.getBoard().getId()));
 
         return comment.getId();
     }
@@ -123,6 +146,8 @@ public class CommentService {
         }
 
         commentRepository.delete(comment);
+        boardRepository.addCommentCount(comment.getBoard().getId(), -1);
+        eventPublisher.publishEvent(new CommentChangedEvent(comment.getBoard().getId()));
     }
 
     // 댓글 삭제 (비로그인)
@@ -134,17 +159,25 @@ public class CommentService {
 
         String hashed = comment.getPassword();
         String plainPassword = dto.getPassword();
-        boolean isMatch = BCrypt.checkpw(plainPassword, hashed);
+        boolean isMatch = passwordHashingService.matches(plainPassword, hashed);
         if (!isMatch) {
             throw new IllegalArgumentException("비밀번호를 다시 확인해 주세요.");
         }
 
         commentRepository.delete(comment);
+        boardRepository.addCommentCount(comment.getBoard().getId(), -1);
+        eventPublisher.publishEvent(new CommentChangedEvent(comment.getBoard().getId()));
     }
 
     // 게시물에 달린 댓글 조회 페이징
+    // 첫 페이지는 BoardDetailCache 에서 조회
     public Page<CommentQueryDto> getCommentsPage(Long boardId, Pageable pageable) {
 
+        if (pageable.getPageNumber() == 0) {
+            return boardDetailCache.getFirstComments(boardId, pageable.getPageSize(),
+                    id -> commentRepository.getCommentsPageByBoardId(id, pageable));
+        }
+
         Page<CommentQueryDto> result = commentRepository.getCommentsPageByBoardId(boardId, pageable);
 
         // 마지막 페이지보다 큰 페이지번호로 요청하면 마지막 페이지를 반환
@@ -156,4 +189,14 @@ public class CommentService {
         return result;
     }
 
+    // 게시물에 달린 댓글 페이지 내용 (count 쿼리 X, BoardDetailService 에서 count 와 동시에 실행)
+    public List<CommentQueryDto> getCommentsContent(Long boardId, Pageable pageable) {
+        return commentRepository.getCommentsContentByBoardId(boardId, pageable);
+    }
+
+    // 게시물에 달린 댓글 수
+    public long countComments(Long boardId) {
+        return commentRepository.countByBoardId(boardId);
+    }
+
 }
@@ -1,7 +1,6 @@
 package toyproject.board.service;
 
 import lombok.RequiredArgsConstructor;
-import org.mindrot.jbcrypt.BCrypt;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,6 +33,7 @@ public class InitService {
     static class InitDataService {
 
         private final EntityManager em;
+        private final PasswordHashingService passwordHashingService;
 
         public void init() {
 
@@ -41,7 +41,7 @@ public class InitService {
             for (int i = 0; i < 30; i++) {
                 Member member = Member.builder()
                         .username("user" + (i + 1))
-                        .password(BCrypt.hashpw("12341234", BCrypt.gensalt(10)))
+                        .password(passwordHashingService.hash("12341234"))
                         .build();
                 em.persist(member);
             }
@@ -57,7 +57,7 @@ public class InitService {
                             .title("title" + (i + 1))
                             .content("content" + (i + 1))
                             .nickname("user1")
-                            .password(BCrypt.hashpw("1234", BCrypt.gensalt(10)))
+                            .password(passwordHashingService.hash("1234"))
                             .build();
                     em.persist(board);
                 }
@@ -67,7 +67,7 @@ public class InitService {
                             .title("title" + (i + 1))
                             .content("content" + (i + 1))
                             .nickname("user2")
-                            .password(BCrypt.hashpw("1234", BCrypt.gensalt(10)))
+                            .password(passwordHashingService.hash("1234"))
                             .build();
                     em.persist(board);
                 }
@@ -77,7 +77,7 @@ public class InitService {
                             .title("title" + (i + 1))
                             .content("content" + (i + 1))
                             .nickname("user3")
-                            .password(BCrypt.hashpw("1234", BCrypt.gensalt(10)))
+                            .password(passwordHashingService.hash("1234"))
                             .build();
                     em.persist(board);
                 }
@@ -113,12 +113,16 @@ public class InitService {
                             .board(board)
                             .content("comment" + (i + 1))
                             .nickname("ㅇㅇ " + (i + 1))
-                            .password(BCrypt.hashpw("1234", BCrypt.gensalt(10)))
+                            .password(passwordHashingService.hash("1234"))
                             .build();
                     em.persist(comment);
                 }
             }
 
+            // 게시물 댓글 수 반영
+            em.createQuery("update Board b set b.commentCount = (select count(c) from Comment c where c.board = b)")
+                    .executeUpdate();
+
         }
 
     }
@@ -1,21 +1,22 @@
 package toyproject.board.service;
 
 import lombok.RequiredArgsConstructor;
-import org.mindrot.jbcrypt.BCrypt;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
-import toyproject.board.domain.board.BoardRepository;
-import toyproject.board.domain.board.query.BoardQueryRepository;
-import toyproject.board.domain.comment.CommentRepository;
 import toyproject.board.domain.member.Member;
 import toyproject.board.domain.member.MemberRepository;
 import toyproject.board.domain.member.query.MemberQueryRepository;
 import toyproject.board.dto.member.command.MemberRequestDto;
 import toyproject.board.dto.member.query.MemberQueryDto;
 import toyproject.board.dto.member.query.MemberSearchCondition;
+import toyproject.board.dto.member.query.MemberSuggestDto;
+import toyproject.board.search.MemberJoinedEvent;
+import toyproject.board.search.MemberWithdrawnEvent;
+import toyproject.board.search.UsernameSuggester;
 
 import javax.validation.Valid;
 import java.util.List;
@@ -27,11 +28,13 @@ import java.util.Optional;
 @Service
 public class MemberService {
 
+    private static final int MAX_SUGGEST_SIZE = 50;
+
     private final MemberRepository memberRepository;
     private final MemberQueryRepository memberQueryRepository;
-    private final BoardRepository boardRepository;
-    private final BoardQueryRepository boardQueryRepository;
-    private final CommentRepository commentRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UsernameSuggester usernameSuggester;
 
     // 회원가입
     @Transactional
@@ -51,11 +54,11 @@ public class MemberService {
         }
 
         // 비밀번호 암호화
-        dto.setPassword(
-                BCrypt.hashpw(dto.getPassword(), BCrypt.gensalt(10)));
+        dto.setPassword(passwordHashingService.hash(dto.getPassword()));
 
         Member member = dto.toEntity();
         memberRepository.save(member);
+        eventPublisher.publishEvent(new MemberJoinedEvent(member.getId(), member.getUsername()));
 
         return member.getId();
     }
@@ -67,7 +70,11 @@ public class MemberService {
         Member member = memberRepository.findByUsername(dto.getUsername())
                 .orElseThrow(() -> new IllegalArgumentException("이름을 다시 확인해주세요."));
 
-        boolean isMatch = BCrypt.checkpw(dto.getPassword(), member.getPassword());
+        if (member.isWithdrawn()) {
+            throw new IllegalArgumentException("이름을 다시 확인해주세요.");
+        }
+
+        boolean isMatch = passwordHashingService.matches(dto.getPassword(), member.getPassword());
         if (!isMatch) {
             throw new IllegalArgumentException("비밀번호를 다시 확인해주세요.");
         }
@@ -75,25 +82,20 @@ public class MemberService {
         return member;
     }
 
-    // 회원 탈퇴
+    /**
+     * 회원 탈퇴 (논리 삭제)
+     * - 탈퇴 일시만 기록하고 바로 반환
+     * - 작성한 댓글, 게시물(과 게시물의 댓글), 멤버 row 는 MemberPurgeJob 이 나누어 삭제
+     */
     @Transactional
     public boolean withdrawal(Long memberId) {
 
         Member member = memberRepository.findById(memberId)
+                .filter(m -> !m.isWithdrawn())
                 .orElseThrow(() -> new NullPointerException("유저를 찾을 수 없습니다."));
 
-        // 유저가 작성한 댓글 삭제
-        commentRepository.deleteByMemberId(memberId);
-
-        // 유저가 작성한 게시물에 달린 댓글 삭제
-        List<Long> boardIdList = boardQueryRepository.findAllBoardIdByMemberId(memberId);
-        commentRepository.deleteByBoardIdList(boardIdList);
-
-        // 유저가 작성한 게시물 삭제
-        boardRepository.deleteByMemberId(memberId);
-
-        // 유저 삭제
-        memberRepository.delete(member);
+        member.withdraw();
+        eventPublisher.publishEvent(new MemberWithdrawnEvent(memberId, member.getUsername()));
 
         return true;
     }
@@ -113,4 +115,9 @@ public class MemberService {
         return memberQueryRepository.searchPage(condition, pageable);
     }
 
+    // username 자동 완성 (DB 조회 없음)
+    public List<MemberSuggestDto> suggestMember(String prefix, int size) {
+        return usernameSuggester.suggest(prefix, Math.min(size, MAX_SUGGEST_SIZE));
+    }
+
 }
@@ -0,0 +1,155 @@
+package toyproject.board.service;
+
+import org.mindrot.jbcrypt.BCrypt;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시 / 검증
+ * - BCrypt 는 요청 하나에 수십 ms 동안 CPU 를 사용하므로 톰캣 스레드가 아닌 전용 풀(password-hashing)에서 실행
+ * - 해시 풀은 hash / matches 만 실행 (DB 지연이 해시 처리량을 제한하지 않도록)
+ * - 해시가 포함된 요청의 나머지 작업(트랜잭션)은 요청 풀(password-request)에서 실행, 크기는 커넥션 수 이내로
+ * - 두 풀 모두 크기와 대기열 크기를 제한하고, 대기열이 가득 차면 RejectedExecutionException (503) 으로 즉시 거절
+ * - 댓글 가져오기(hashAll)는 별도 풀(password-import)에서 실행 (대량 해시가 로그인 / 가입의 해시 풀을 차지하지 않도록)
+ */
+@Service
+public class PasswordHashingService {
+
+    private final int cost;
+    private final ThreadPoolExecutor hashingExecutor;
+    private final ThreadPoolExecutor requestExecutor;
+    private final ThreadPoolExecutor importExecutor;
+
+    public PasswordHashingService(@Value("${board.password.cost:10}") int cost,
+                                  @Value("${board.password.pool-size:4}") int poolSize,
+                                  @Value("${board.password.queue-capacity:100}") int queueCapacity,
+                                  @Value("${board.password.request-pool-size:8}") int requestPoolSize,
+                                  @Value("${board.password.request-queue-capacity:100}") int requestQueueCapacity,
+                                  @Value("${board.password.import-pool-size:2}") int importPoolSize) {
+        this.cost = cost;
+        this.hashingExecutor = newExecutor(poolSize, queueCapacity, "password-hashing-");
+        this.requestExecutor = newExecutor(requestPoolSize, requestQueueCapacity, "password-request-");
+
+        // 가져오기가 없을 때는 스레드를 유지하지 않음
+        this.importExecutor = new ThreadPoolExecutor(
+                importPoolSize, importPoolSize,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new NamedThreadFactory("password-import-"));
+        this.importExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    private static ThreadPoolExecutor newExecutor(int poolSize, int queueCapacity, String namePrefix) {
+        return new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new NamedThreadFactory(namePrefix),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 비밀번호 암호화 (해시 풀에서 실행하고 결과를 기다림)
+    public String hash(String plainPassword) {
+        return onHashingPool(() -> hashNow(plainPassword));
+    }
+
+    // 해시된 비밀번호와 순수한 비밀번호가 동일한지 판단 (해시 풀에서 실행하고 결과를 기다림)
+    public boolean matches(String plainPassword, String hashed) {
+        return onHashingPool(() -> BCrypt.checkpw(plainPassword, hashed));
+    }
+
+    private String hashNow(String plainPassword) {
+        return BCrypt.hashpw(plainPassword, BCrypt.gensalt(cost));
+    }
+
+    // 해시 풀에서 실행하고 결과를 기다림 (대기열이 가득 차면 RejectedExecutionException)
+    private <T> T onHashingPool(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, hashingExecutor).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 비밀번호 해시 / 검증이 포함된 요청을 요청 풀에서 실행 (톰캣 스레드 반환)
+     * - 작업 안의 hash / matches 만 해시 풀에서 실행
+     * - 대기열이 가득 차면 호출한 스레드에서 RejectedExecutionException 발생
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, requestExecutor);
+    }
+
+    public CompletableFuture<Void> run(Runnable task) {
+        return CompletableFuture.runAsync(task, requestExecutor);
+    }
+
+    /**
+     * 여러 비밀번호를 가져오기 전용 풀에서 나눠서 해시 (댓글 가져오기)
+     * - 로그인 / 가입의 해시 풀과 분리되어 있으므로 가져오기 중에도 로그인이 거절되지 않음
+     * - 호출 한 번에 풀 크기만큼으로 나눠서 제출하고 끝날 때까지 대기
+     *   대기열은 제한하지 않지만 대기 작업 수는 (동시에 실행 중인 가져오기 요청 수 x 풀 크기) 이내
+     */
+    public List<String> hashAll(List<String> plainPasswords) {
+
+        int size = plainPasswords.size();
+        String[] hashed = new String[size];
+        int sliceSize = Math.max(1, (size + importExecutor.getCorePoolSize() - 1) / importExecutor.getCorePoolSize());
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int from = 0; from < size; from += sliceSize) {
+            int start = from;
+            int end = Math.min(from + sliceSize, size);
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (int i = start; i < end; i++) {
+                    hashed[i] = hashNow(plainPasswords.get(i));
+                }
+            }, importExecutor));
+        }
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        return Arrays.asList(hashed);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        requestExecutor.shutdown();
+        importExecutor.shutdown();
+        hashingExecutor.shutdown();
+    }
+
+    private static class NamedThreadFactory implements ThreadFactory {
+
+        private final String namePrefix;
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        private NamedThreadFactory(String namePrefix) {
+            this.namePrefix = namePrefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, namePrefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
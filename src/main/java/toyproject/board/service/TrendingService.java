@@ -0,0 +1,239 @@
+package toyproject.board.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import toyproject.board.domain.board.query.BoardQueryRepository;
+import toyproject.board.domain.trending.TrendingScore;
+import toyproject.board.domain.trending.TrendingScoreRepository;
+import toyproject.board.dto.board.query.BoardAndCommentCount;
+import toyproject.board.dto.board.query.TrendingBoardDto;
+import toyproject.board.trending.TrendingRanking;
+
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 게시물
+ * - 조회, 댓글 이벤트를 시간 감쇠 점수로 누적 (half-life 마다 점수 절반, TrendingRanking)
+ * - refresh-interval 마다 상위 게시물을 한 번에 조회해서 스냅샷으로 보관, GET /board/trending 은 스냅샷으로 응답
+ * - checkpoint-interval 마다 (그리고 종료 시) 점수를 DB 에 저장, 시작 시 복원
+ * - 복원은 스케줄 작업이 등록되기 전(싱글톤 생성 직후)에 실행하고, 복원 전에는 refresh / checkpoint 를 건너뜀
+ *   (복원 전에 체크포인트가 실행되면 빈 점수로 저장된 점수를 지움)
+ */
+@Service
+public class TrendingService implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrendingService.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    // 잠금 : this
+    private final TrendingRanking ranking;
+
+    private final BoardQueryRepository boardQueryRepository;
+    private final TrendingScoreRepository trendingScoreRepository;
+    private final EntityManager em;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int size;
+    private final long halfLifeMillis;
+    private final double viewWeight;
+    private final double commentWeight;
+    private final double minScore;
+
+    private volatile List<TrendingBoardDto> snapshot = Collections.emptyList();
+
+    // 마지막 체크포인트 복원 여부
+    private volatile boolean restored;
+
+    public TrendingService(BoardQueryRepository boardQueryRepository,
+                           TrendingScoreRepository trendingScoreRepository,
+                           EntityManager em,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${board.trending.size:50}") int size,
+                           @Value("${board.trending.half-life:6h}") Duration halfLife,
+                           @Value("${board.trending.view-weight:1}") double viewWeight,
+                           @Value("${board.trending.comment-weight:5}") double commentWeight,
+                           @Value("${board.trending.min-score:0.01}") double minScore) {
+
+        if (size < 1) {
+            throw new IllegalArgumentException("board.trending.size 는 1 이상이어야 합니다.");
+        }
+
+        this.boardQueryRepository = boardQueryRepository;
+        this.trendingScoreRepository = trendingScoreRepository;
+        this.em = em;
+        this.transactionTemplate = transactionTemplate;
+        this.size = size;
+        this.halfLifeMillis = halfLife.toMillis();
+        this.viewWeight = viewWeight;
+        this.commentWeight = commentWeight;
+        this.minScore = minScore;
+        this.ranking = new TrendingRanking(size, halfLifeMillis, System.currentTimeMillis());
+    }
+
+    public void recordView(Long boardId) {
+        record(boardId, viewWeight);
+    }
+
+    public void recordComment(Long boardId) {
+        record(boardId, commentWeight);
+    }
+
+    private synchronized void record(Long boardId, double weight) {
+        ranking.add(boardId, weight, System.currentTimeMillis());
+    }
+
+    // 삭제된 게시물 제거 (스냅샷에서도 바로 제거)
+    public void remove(Collection<Long> boardIds) {
+
+        synchronized (this) {
+            boardIds.forEach(ranking::remove);
+        }
+
+        snapshot = snapshot.stream()
+                .filter(trending -> !boardIds.contains(trending.getBoard().getBoardId()))
+                .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
+    }
+
+    // 인기 게시물 (점수 내림차순, 최대 board.trending.size 개)
+    public List<TrendingBoardDto> getTrending(int limit) {
+        List<TrendingBoardDto> current = snapshot;
+        return current.subList(0, Math.min(Math.max(limit, 0), current.size()));
+    }
+
+    // 상위 게시물 스냅샷 갱신 (게시물은 IN 쿼리 한 번)
+    @Scheduled(fixedDelayString = "${board.trending.refresh-interval:5000}")
+    public void refresh() {
+
+        if (!restored) {
+            return;
+        }
+
+        Map<Long, Double> top = new LinkedHashMap<>();
+        synchronized (this) {
+            ranking.forEachTop(System.currentTimeMillis(), top::put);
+        }
+
+        if (top.isEmpty()) {
+            snapshot = Collections.emptyList();
+            return;
+        }
+
+        Map<Long, BoardAndCommentCount> boards = boardQueryRepository.findBoardListByIds(top.keySet()).stream()
+                .collect(Collectors.toMap(BoardAndCommentCount::getBoardId, Function.identity()));
+
+        List<TrendingBoardDto> result = new ArrayList<>(top.size());
+        List<Long> missing = new ArrayList<>();
+        top.forEach((boardId, score) -> {
+            BoardAndCommentCount board = boards.get(boardId);
+            if (board != null) {
+                result.add(new TrendingBoardDto(board, score));
+            } else {
+                missing.add(boardId);
+            }
+        });
+
+        // 이벤트 없이 지워진 게시물 (체크포인트 복원 등)
+        if (!missing.isEmpty()) {
+            synchronized (this) {
+                missing.forEach(ranking::remove);
+            }
+        }
+
+        snapshot = Collections.unmodifiableList(result);
+    }
+
+    /**
+     * 점수 저장
+     * - min-score 보다 낮아진 게시물은 메모리에서 제거하고 나머지를 통째로 다시 씀
+     */
+    @Scheduled(fixedDelayString = "${board.trending.checkpoint-interval:60000}")
+    public void checkpoint() {
+
+        if (!restored) {
+            logger.warn("인기 게시물 체크포인트 생략 : 복원 전");
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        List<TrendingScore> scores = new ArrayList<>();
+        int pruned;
+
+        synchronized (this) {
+            pruned = ranking.prune(minScore, now);
+            ranking.forEach(now, (boardId, score) -> scores.add(new TrendingScore(boardId, score, now)));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            trendingScoreRepository.deleteAllInBatch();
+            for (int i = 0; i < scores.size(); i++) {
+                em.persist(scores.get(i));
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    em.flush();
+                    em.clear();
+                }
+            }
+        });
+
+        logger.debug("인기 게시물 체크포인트 : {}건 저장, {}건 제거", scores.size(), pruned);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        restore();
+    }
+
+    // 마지막 체크포인트 복원 (저장 후 지난 시간만큼 감쇠), 복원 전에 기록된 점수에 더함
+    public void restore() {
+
+        if (restored) {
+            return;
+        }
+
+        List<TrendingScore> scores = trendingScoreRepository.findAll();
+        long now = System.currentTimeMillis();
+
+        synchronized (this) {
+            for (TrendingScore score : scores) {
+                double elapsed = Math.max(0, now - score.getCheckpointTime());
+                double decayed = score.getScore() * Math.pow(0.5, elapsed / halfLifeMillis);
+                if (decayed >= minScore) {
+                    ranking.add(score.getBoardId(), decayed, now);
+                }
+            }
+        }
+
+        restored = true;
+        refresh();
+        logger.info("인기 게시물 복원 : {}건", scores.size());
+    }
+
+    @PreDestroy
+    public void destroy() {
+        try {
+            checkpoint();
+        } catch (RuntimeException e) {
+            logger.error("Failed to checkpoint trending scores", e);
+        }
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+}
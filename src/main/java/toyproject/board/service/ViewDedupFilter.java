@@ -0,0 +1,113 @@
+package toyproject.board.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import toyproject.board.util.BloomFilter;
+
+import java.time.Duration;
+
+/**
+ * 게시물 중복 조회 필터
+ * - (게시물 ID, 멤버 ID 또는 클라이언트 IP) 조합을 블룸 필터에 기록
+ * - 현재/이전 두 세대의 필터를 window 마다 교체
+ *   같은 방문자의 조회는 최소 window, 최대 2 * window 동안 한 번만 집계
+ * - 메모리는 방문자 수와 관계없이 필터 크기(expected-insertions, fpp)로 고정
+ */
+@Component
+public class ViewDedupFilter {
+
+    private final long windowMillis;
+    private final long expectedInsertions;
+    private final double fpp;
+
+    private volatile Generation generation;
+
+    public ViewDedupFilter(@Value("${board.views.dedup.window:PT12H}") Duration window,
+                           @Value("${board.views.dedup.expected-insertions:1000000}") long expectedInsertions,
+                           @Value("${board.views.dedup.fpp:0.01}") double fpp) {
+        this.windowMillis = window.toMillis();
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+        this.generation = new Generation(newFilter(), newFilter(), System.currentTimeMillis() + windowMillis);
+    }
+
+    /**
+     * window 안에서 처음 조회한 것이면 true
+     * - 멤버 ID, IP 모두 없으면 방문자를 구분할 수 없으므로 항상 true
+     */
+    public boolean isFirstView(Long boardId, Long memberId, String ip) {
+
+        if (memberId == null && ip == null) {
+            return true;
+        }
+
+        long visitor = memberId != null
+                ? mix(memberId)
+                : mix(fnv1a(ip) ^ 0x5DEECE66DL);
+
+        long hash1 = mix(boardId * 0x9E3779B97F4A7C15L ^ visitor);
+        long hash2 = mix(hash1) | 1;
+
+        Generation gen = rotateIfExpired();
+        if (gen.previous.mightContain(hash1, hash2)) {
+            return false;
+        }
+        return !gen.current.put(hash1, hash2);
+    }
+
+    private Generation rotateIfExpired() {
+        Generation gen = generation;
+        long now = System.currentTimeMillis();
+
+        if (now < gen.rotateAt) {
+            return gen;
+        }
+
+        synchronized (this) {
+            gen = generation;
+            if (now >= gen.rotateAt) {
+                // window 를 두 번 이상 건너뛰었으면 이전 세대도 비움
+                BloomFilter previous = now >= gen.rotateAt + windowMillis ? newFilter() : gen.current;
+                gen = new Generation(newFilter(), previous, now + windowMillis);
+                generation = gen;
+            }
+            return gen;
+        }
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(expectedInsertions, fpp);
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // 문자열을 할당 없이 64비트 해시로 변환
+    private static long fnv1a(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    private static class Generation {
+
+        private final BloomFilter current;
+        private final BloomFilter previous;
+        private final long rotateAt;
+
+        private Generation(BloomFilter current, BloomFilter previous, long rotateAt) {
+            this.current = current;
+            this.previous = previous;
+            this.rotateAt = rotateAt;
+        }
+    }
+
+}
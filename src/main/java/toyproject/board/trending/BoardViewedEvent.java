@@ -0,0 +1,16 @@
+package toyproject.board.trending;
+
+// 게시물 조회 이벤트 (조회 수가 오른 경우만, 인기 게시물 점수 반영)
+public class BoardViewedEvent {
+
+    private final Long boardId;
+
+    public BoardViewedEvent(Long boardId) {
+        this.boardId = boardId;
+    }
+
+    public Long getBoardId() {
+        return boardId;
+    }
+
+}
@@ -0,0 +1,16 @@
+package toyproject.board.trending;
+
+// 댓글 생성 이벤트 (커밋 후 인기 게시물 점수 반영)
+public class CommentCreatedEvent {
+
+    private final Long boardId;
+
+    public CommentCreatedEvent(Long boardId) {
+        this.boardId = boardId;
+    }
+
+    public Long getBoardId() {
+        return boardId;
+    }
+
+}
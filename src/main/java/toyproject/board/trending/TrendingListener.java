@@ -0,0 +1,35 @@
+package toyproject.board.trending;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import toyproject.board.search.BoardDeletedEvent;
+import toyproject.board.service.TrendingService;
+
+/**
+ * 인기 게시물 점수 반영
+ * - 조회는 트랜잭션과 관계없이 바로, 댓글 생성과 게시물 삭제는 커밋 후에 반영
+ */
+@RequiredArgsConstructor
+@Component
+public class TrendingListener {
+
+    private final TrendingService trendingService;
+
+    @EventListener
+    public void onBoardViewed(BoardViewedEvent event) {
+        trendingService.recordView(event.getBoardId());
+    }
+
+    @TransactionalEventListener
+    public void onCommentCreated(CommentCreatedEvent event) {
+        trendingService.recordComment(event.getBoardId());
+    }
+
+    @TransactionalEventListener
+    public void onBoardDeleted(BoardDeletedEvent event) {
+        trendingService.remove(event.getBoardIds());
+    }
+
+}
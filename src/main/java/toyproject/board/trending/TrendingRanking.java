@@ -0,0 +1,324 @@
+package toyproject.board.trending;
+
+import java.util.Arrays;
+
+/**
+ * 인기 게시물 점수와 상위 k 개 (동기화하지 않음, TrendingService 가 잠금)
+ *
+ * 점수 (forward decay)
+ * - 시각 t 의 이벤트는 weight * e^(λ(t - landmark)) 를 더하고, 현재 점수는 저장된 값 / e^(λ(now - landmark))
+ * - 모든 게시물을 같은 값으로 나누므로 저장된 값 순서 = 현재 점수 순서, 시간이 지나도 다시 계산할 필요 없음
+ * - 지수가 커지면 전체 값을 한 번에 줄이고 landmark 를 옮김 (순서는 그대로)
+ *
+ * 자료 구조
+ * - 게시물 ID -> 점수 : long / double 배열의 open addressing 해시 (박싱 없음)
+ * - 상위 k 개 : 점수 min-heap, 게시물마다 heap 위치를 저장해서 점수가 오르면 제자리에서 sift
+ * - 점수는 오르기만 하므로 heap 밖의 게시물은 heap 최솟값을 넘을 때만 들어옴 (이벤트당 O(log k))
+ * - 게시물 삭제로 heap 에서 빠지면 heap 을 다시 만듦 (드묾)
+ */
+public class TrendingRanking {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // e^30 ≈ 1e13, double 정밀도 안에서 landmark 이동
+    private static final double MAX_EXPONENT = 30;
+
+    private final int k;
+    private final double lambda; // 1ms 당 감쇠율 (ln2 / half-life)
+    private long landmark;
+
+    // 게시물 ID -> 점수 (linear probing)
+    private long[] keys;
+    private double[] values;
+    private int[] heapIndex; // heap 에 없으면 -1
+    private int size;
+    private int mask;
+
+    // 상위 k 개 min-heap (게시물 ID)
+    private final long[] heap;
+    private int heapSize;
+
+    public TrendingRanking(int k, long halfLifeMillis, long now) {
+        this.k = k;
+        this.lambda = Math.log(2) / halfLifeMillis;
+        this.landmark = now;
+        this.heap = new long[k];
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * 이벤트 반영
+     * - 조회 1, 댓글 comment-weight 처럼 가중치를 더함
+     */
+    public void add(long boardId, double weight, long now) {
+
+        rescaleIfNeeded(now);
+        double delta = weight * Math.exp(lambda * (now - landmark));
+
+        int slot = slot(boardId);
+        if (keys[slot] == EMPTY) {
+            keys[slot] = boardId;
+            values[slot] = delta;
+            heapIndex[slot] = -1;
+            if (++size > keys.length / 2) {
+                resize();
+                slot = slot(boardId);
+            }
+        } else {
+            values[slot] += delta;
+        }
+
+        offer(slot);
+    }
+
+    // 현재 점수 (없으면 0)
+    public double score(long boardId, long now) {
+        int slot = slot(boardId);
+        return keys[slot] == EMPTY ? 0 : decay(values[slot], now);
+    }
+
+    public void remove(long boardId) {
+
+        int slot = slot(boardId);
+        if (keys[slot] == EMPTY) {
+            return;
+        }
+
+        boolean inHeap = heapIndex[slot] >= 0;
+        delete(slot);
+        if (inHeap) {
+            rebuildHeap();
+        }
+    }
+
+    /**
+     * 현재 점수가 minScore 보다 작은 게시물 제거 (메모리 유지)
+     * - 제거한 게시물 수 반환
+     */
+    public int prune(double minScore, long now) {
+
+        long[] removed = new long[size];
+        int count = 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY && decay(values[slot], now) < minScore) {
+                removed[count++] = keys[slot];
+            }
+        }
+
+        boolean heapChanged = false;
+        for (int i = 0; i < count; i++) {
+            int slot = slot(removed[i]);
+            heapChanged |= heapIndex[slot] >= 0;
+            delete(slot);
+        }
+
+        if (heapChanged) {
+            rebuildHeap();
+        }
+        return count;
+    }
+
+    // 상위 게시물 (점수 내림차순)
+    public void forEachTop(long now, EntryConsumer consumer) {
+
+        long[] ids = Arrays.copyOf(heap, heapSize);
+        double[] scores = new double[heapSize];
+        Integer[] order = new Integer[heapSize];
+        for (int i = 0; i < heapSize; i++) {
+            scores[i] = values[slot(ids[i])];
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(scores[b], scores[a]));
+
+        for (Integer i : order) {
+            consumer.accept(ids[i], decay(scores[i], now));
+        }
+    }
+
+    // 전체 게시물 (순서 없음)
+    public void forEach(long now, EntryConsumer consumer) {
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY) {
+                consumer.accept(keys[slot], decay(values[slot], now));
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long boardId, double score);
+    }
+
+    //=====점수=====//
+    private double decay(double value, long now) {
+        return value * Math.exp(-lambda * (now - landmark));
+    }
+
+    private void rescaleIfNeeded(long now) {
+
+        double exponent = lambda * (now - landmark);
+        if (exponent < MAX_EXPONENT) {
+            return;
+        }
+
+        double factor = Math.exp(-exponent);
+        for (int slot = 0; slot < keys.length; slot++) {
+            values[slot] *= factor;
+        }
+        landmark = now;
+    }
+
+    //=====해시=====//
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new double[capacity];
+        heapIndex = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        mask = capacity - 1;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    // 키가 있는 칸, 없으면 넣을 빈 칸
+    private int slot(long key) {
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+
+        long[] oldKeys = keys;
+        double[] oldValues = values;
+        int[] oldHeapIndex = heapIndex;
+
+        allocate(oldKeys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                int slot = slot(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+                heapIndex[slot] = oldHeapIndex[i];
+            }
+        }
+    }
+
+    // 삭제 후 뒤에 있는 칸을 당겨서 탐색 경로 유지 (tombstone 없음)
+    private void delete(int slot) {
+
+        int hole = slot;
+        int i = slot;
+        while (true) {
+            i = (i + 1) & mask;
+            if (keys[i] == EMPTY) {
+                break;
+            }
+            int ideal = hash(keys[i]) & mask;
+            if (((i - ideal) & mask) >= ((i - hole) & mask)) {
+                keys[hole] = keys[i];
+                values[hole] = values[i];
+                heapIndex[hole] = heapIndex[i];
+                hole = i;
+            }
+        }
+
+        keys[hole] = EMPTY;
+        size--;
+    }
+
+    //=====heap=====//
+    // 점수가 오른 게시물을 heap 에 반영
+    private void offer(int slot) {
+
+        int pos = heapIndex[slot];
+        if (pos >= 0) {
+            siftDown(pos);
+            return;
+        }
+
+        if (heapSize < k) {
+            heapIndex[slot] = heapSize;
+            heap[heapSize] = keys[slot];
+            siftUp(heapSize++);
+            return;
+        }
+
+        int rootSlot = slot(heap[0]);
+        if (values[slot] > values[rootSlot]) {
+            heapIndex[rootSlot] = -1;
+            heapIndex[slot] = 0;
+            heap[0] = keys[slot];
+            siftDown(0);
+        }
+    }
+
+    private void rebuildHeap() {
+        heapSize = 0;
+        for (int slot = 0; slot < keys.length; slot++) {
+            heapIndex[slot] = -1;
+        }
+        for (int slot = 0; slot < keys.length; slot++) {
+            if (keys[slot] != EMPTY) {
+                offer(slot);
+            }
+        }
+    }
+
+    private double heapValue(int pos) {
+        return values[slot(heap[pos])];
+    }
+
+    private void place(int pos, long boardId) {
+        heap[pos] = boardId;
+        heapIndex[slot(boardId)] = pos;
+    }
+
+    private void siftUp(int pos) {
+
+        long boardId = heap[pos];
+        double value = heapValue(pos);
+
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (heapValue(parent) <= value) {
+                break;
+            }
+            place(pos, heap[parent]);
+            pos = parent;
+        }
+        place(pos, boardId);
+    }
+
+    private void siftDown(int pos) {
+
+        long boardId = heap[pos];
+        double value = heapValue(pos);
+
+        while (true) {
+            int child = 2 * pos + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && heapValue(child + 1) < heapValue(child)) {
+                child++;
+            }
+            if (heapValue(child) >= value) {
+                break;
+            }
+            place(pos, heap[child]);
+            pos = child;
+        }
+        place(pos, boardId);
+    }
+
+}
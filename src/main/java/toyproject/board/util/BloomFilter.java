@@ -0,0 +1,77 @@
+package toyproject.board.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 크기 블룸 필터
+ * - 비트 배열은 AtomicLongArray 로 관리하므로 잠금 없이 여러 스레드에서 사용 가능
+ * - 해시 두 개로 k 개의 위치를 계산 (double hashing)
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상 원소 수
+     * @param fpp                허용할 오탐률 (0 ~ 1)
+     */
+    public BloomFilter(long expectedInsertions, double fpp) {
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBits + 63) / 64);
+
+        this.bits = new AtomicLongArray(words);
+        this.bitSize = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * 원소 추가
+     * - 추가하기 전에 이미 존재했을(수도 있는) 원소면 true
+     */
+    public boolean put(long hash1, long hash2) {
+        boolean exists = true;
+        long combined = hash1;
+        for (int i = 0; i < hashCount; i++) {
+            if (!setBit(index(combined))) {
+                exists = false;
+            }
+            combined += hash2;
+        }
+        return exists;
+    }
+
+    public boolean mightContain(long hash1, long hash2) {
+        long combined = hash1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = index(combined);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+            combined += hash2;
+        }
+        return true;
+    }
+
+    private long index(long hash) {
+        return (hash & Long.MAX_VALUE) % bitSize;
+    }
+
+    // 비트를 1로 설정, 이미 1이었으면 true
+    private boolean setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+
+        long old;
+        do {
+            old = bits.get(word);
+            if ((old & mask) != 0) {
+                return true;
+            }
+        } while (!bits.compareAndSet(word, old, old | mask));
+
+        return false;
+    }
+
+}
@@ -0,0 +1,17 @@
+package toyproject.board.util;
+
+import javax.servlet.http.HttpServletRequest;
+
+// 요청 관련 유틸
+public abstract class RequestUtils {
+
+    // 클라이언트 IP (프록시를 거친 경우 X-FORWARDED-FOR 헤더 사용)
+    public static String getClientIp(HttpServletRequest request) {
+        String ip = request.getHeader("X-FORWARDED-FOR");
+        if (ip == null) {
+            ip = request.getRemoteAddr();
+        }
+        return ip;
+    }
+
+}
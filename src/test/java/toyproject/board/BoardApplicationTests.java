@@ -1,13 +1,22 @@
 package toyproject.board;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import toyproject.board.auth.TokenProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
 class BoardApplicationTests {
 
+	@Autowired
+	TokenProvider tokenProvider;
+
+	// 기본 설정 (세션 모드, board.auth.token.secret 없음) 으로 컨텍스트가 뜨는지 확인
 	@Test
 	void contextLoads() {
+		assertThat(tokenProvider.isTokenMode()).isFalse();
 	}
 
 }
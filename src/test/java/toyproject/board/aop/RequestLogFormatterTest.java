@@ -0,0 +1,42 @@
+package toyproject.board.aop;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RequestLogFormatterTest {
+
+    @Tag("format")
+    @Test
+    void 요청_로그_포맷() throws Exception {
+        // give
+        Map<String, String[]> paramMap = new LinkedHashMap<>();
+        paramMap.put("title", new String[]{"spring"});
+        paramMap.put("sort", new String[]{"createdDate,desc", "id,desc"});
+
+        // when
+        String result = RequestLogFormatter.format("GET", "/board/search", paramMap, "127.0.0.1");
+
+        // then
+        assertThat(result).isEqualTo("GET /board/search?title=spring&sort=createdDate,desc,id,desc | 127.0.0.1");
+    }
+
+    @Tag("format")
+    @Test
+    void 요청_로그_포맷_파라미터_없음() throws Exception {
+        // give
+        RequestLogFormatter.format("GET", "/board/list", Collections.singletonMap("page", new String[]{"1"}), "127.0.0.1");
+
+        // when
+        String result = RequestLogFormatter.format("POST", "/member/login", Collections.emptyMap(), "127.0.0.1");
+
+        // then
+        assertThat(result).isEqualTo("POST /member/login | 127.0.0.1");
+    }
+
+}
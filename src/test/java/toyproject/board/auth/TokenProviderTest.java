@@ -0,0 +1,86 @@
+package toyproject.board.auth;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TokenProviderTest {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret";
+    private static final String USER_AGENT = "Mozilla/5.0";
+
+    TokenProvider tokenProvider = new TokenProvider(AuthMode.TOKEN, SECRET, Duration.ofHours(1));
+
+    @Tag("verify")
+    @Test
+    void 토큰_검증_성공() throws Exception {
+        // give
+        LoginMember member = new LoginMember(1L, "회원_1");
+        String token = tokenProvider.issue(member, USER_AGENT);
+
+        // when
+        LoginMember result = tokenProvider.verify(token, USER_AGENT);
+
+        // then
+        assertThat(result).isEqualTo(member);
+    }
+
+    @Tag("verify")
+    @Test
+    void 토큰_검증_실패_변조() throws Exception {
+        // give
+        String token = tokenProvider.issue(new LoginMember(1L, "user1"), USER_AGENT);
+        String otherToken = tokenProvider.issue(new LoginMember(2L, "user2"), USER_AGENT);
+
+        // when
+        String tampered = otherToken.substring(0, otherToken.indexOf('.')) + token.substring(token.indexOf('.'));
+
+        // then
+        assertThat(tokenProvider.verify(tampered, USER_AGENT)).isNull();
+        assertThat(tokenProvider.verify("abc.def", USER_AGENT)).isNull();
+        assertThat(tokenProvider.verify("!!!", USER_AGENT)).isNull();
+    }
+
+    @Tag("verify")
+    @Test
+    void 토큰_검증_실패_User_Agent() throws Exception {
+        // give
+        String token = tokenProvider.issue(new LoginMember(1L, "user1"), USER_AGENT);
+
+        // when
+        LoginMember result = tokenProvider.verify(token, "curl/7.64.1");
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    @Tag("verify")
+    @Test
+    void 토큰_검증_실패_만료() throws Exception {
+        // give
+        TokenProvider expiredProvider = new TokenProvider(AuthMode.TOKEN, SECRET, Duration.ofSeconds(-1));
+        String token = expiredProvider.issue(new LoginMember(1L, "user1"), USER_AGENT);
+
+        // when
+        LoginMember result = expiredProvider.verify(token, USER_AGENT);
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    @Tag("mode")
+    @Test
+    void 세션_모드는_secret_없이_생성() throws Exception {
+        // when
+        TokenProvider sessionProvider = new TokenProvider(AuthMode.SESSION, "", Duration.ofHours(1));
+
+        // then
+        assertThat(sessionProvider.isTokenMode()).isFalse();
+        assertThatThrownBy(() -> sessionProvider.issue(new LoginMember(1L, "user1"), USER_AGENT))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+}
@@ -0,0 +1,57 @@
+package toyproject.board.cache;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import toyproject.board.dto.board.query.BoardSearchCondition;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BoardCountCacheTest {
+
+    BoardCountCache boardCountCache = new BoardCountCache(60_000);
+
+    @Tag("cache")
+    @Test
+    void 구분자가_포함된_검색어는_다른_키() throws Exception {
+        // give
+        // 문자열로 이어 붙이면 둘 다 "search||=a|=||"
+        BoardSearchCondition first = BoardSearchCondition.builder()
+                .title("a|=")
+                .build();
+        BoardSearchCondition second = BoardSearchCondition.builder()
+                .title("a")
+                .content("|")
+                .build();
+
+        // when
+        long firstCount = boardCountCache.get(BoardCountKey.search(first), () -> 1);
+        long secondCount = boardCountCache.get(BoardCountKey.search(second), () -> 2);
+
+        // then
+        assertThat(firstCount).isEqualTo(1);
+        assertThat(secondCount).isEqualTo(2);
+    }
+
+    @Tag("cache")
+    @Test
+    void 같은_조건은_캐시() throws Exception {
+        // give
+        BoardSearchCondition condition = BoardSearchCondition.builder()
+                .title("spring")
+                .isAsc(true)
+                .build();
+        BoardSearchCondition sameCount = BoardSearchCondition.builder()
+                .title("spring")
+                .isAsc(false) // 정렬은 count 와 무관
+                .build();
+
+        // when
+        boardCountCache.get(BoardCountKey.search(condition), () -> 1);
+        long count = boardCountCache.get(BoardCountKey.search(sameCount), () -> 2);
+
+        // then
+        assertThat(count).isEqualTo(1);
+        assertThat(boardCountCache.get(BoardCountKey.list(), () -> 3)).isEqualTo(3);
+    }
+
+}
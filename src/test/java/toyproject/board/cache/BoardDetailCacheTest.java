@@ -0,0 +1,138 @@
+package toyproject.board.cache;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import toyproject.board.dto.board.query.BoardQueryDto;
+import toyproject.board.dto.comment.query.CommentQueryDto;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BoardDetailCacheTest {
+
+    BoardDetailCache boardDetailCache = new BoardDetailCache(true, 1024 * 1024, Duration.ofMinutes(1));
+
+    AtomicInteger loadCount = new AtomicInteger();
+
+    private BoardQueryDto load(Long boardId) {
+        loadCount.incrementAndGet();
+        return BoardQueryDto.builder()
+                .boardId(boardId)
+                .title("title")
+                .content("content")
+                .views(10)
+                .build();
+    }
+
+    @Tag("cache")
+    @Test
+    void 게시물_캐시() throws Exception {
+        // when
+        BoardQueryDto first = boardDetailCache.getBoard(1L, this::load);
+        first.setViews(100);
+        BoardQueryDto second = boardDetailCache.getBoard(1L, this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(second.getViews()).isEqualTo(10); // 반환된 DTO 를 수정해도 캐시는 그대로
+        assertThat(boardDetailCache.getStats().get(0).getHitCount()).isEqualTo(1);
+    }
+
+    @Tag("cache")
+    @Test
+    void 게시물_무효화() throws Exception {
+        // give
+        boardDetailCache.getBoard(1L, this::load);
+
+        // when
+        boardDetailCache.evictBoards(Collections.singletonList(1L));
+        boardDetailCache.getBoard(1L, this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Tag("cache")
+    @Test
+    void 댓글_첫_페이지_캐시() throws Exception {
+        // give
+        Page<CommentQueryDto> page = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 20), 0);
+
+        // when
+        boardDetailCache.getFirstComments(1L, 20, id -> countAndReturn(page));
+        boardDetailCache.getFirstComments(1L, 20, id -> countAndReturn(page));
+        boardDetailCache.getFirstComments(1L, 10, id -> countAndReturn(page)); // 페이지 크기가 다르면 다시 조회
+        boardDetailCache.evictComments(1L);
+        boardDetailCache.getFirstComments(1L, 10, id -> countAndReturn(page));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+
+    @Tag("cache")
+    @Test
+    void 댓글_조회_중_무효화() throws Exception {
+        // give
+        Page<CommentQueryDto> page = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 20), 0);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // when
+        CompletableFuture<Void> load = CompletableFuture.runAsync(() ->
+                boardDetailCache.getFirstComments(1L, 20, id -> {
+                    loading.countDown();
+                    await(release);
+                    return countAndReturn(page); // 무효화 전에 읽은 페이지
+                }));
+        loading.await();
+
+        CompletableFuture<Void> evict = CompletableFuture.runAsync(() -> boardDetailCache.evictComments(1L)); // 댓글 변경 커밋
+        Thread.sleep(100);
+        boolean evictedDuringLoad = evict.isDone();
+
+        release.countDown();
+        CompletableFuture.allOf(load, evict).get(5, TimeUnit.SECONDS);
+        boardDetailCache.getFirstComments(1L, 20, id -> countAndReturn(page));
+
+        // then
+        assertThat(evictedDuringLoad).isFalse(); // 무효화는 저장이 끝날 때까지 대기
+        assertThat(loadCount.get()).isEqualTo(2); // 무효화된 페이지는 다시 조회
+    }
+
+    @Tag("cache")
+    @Test
+    void 비활성화() throws Exception {
+        // give
+        BoardDetailCache disabled = new BoardDetailCache(false, 1024 * 1024, Duration.ofMinutes(1));
+
+        // when
+        disabled.getBoard(1L, this::load);
+        disabled.getBoard(1L, this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Page<CommentQueryDto> countAndReturn(Page<CommentQueryDto> page) {
+        loadCount.incrementAndGet();
+        return page;
+    }
+
+}
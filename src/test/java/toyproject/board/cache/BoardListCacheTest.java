@@ -0,0 +1,184 @@
+package toyproject.board.cache;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import toyproject.board.dto.board.query.BoardAndCommentCount;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BoardListCacheTest {
+
+    BoardListCache boardListCache = new BoardListCache(true, 3, Duration.ofHours(1), new NoOpTransactionManager());
+
+    AtomicInteger loadCount = new AtomicInteger();
+
+    private Page<BoardAndCommentCount> load(Pageable pageable) {
+        loadCount.incrementAndGet();
+        return new PageImpl<>(Collections.emptyList(), pageable, 0);
+    }
+
+    @Tag("cache")
+    @Test
+    void 앞_페이지만_캐시() throws Exception {
+        // when
+        boolean first = boardListCache.isCacheable(PageRequest.of(0, 10));
+        boolean last = boardListCache.isCacheable(PageRequest.of(3, 10));
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(last).isFalse();
+    }
+
+    @Tag("cache")
+    @Test
+    void 변경_후_갱신() throws Exception {
+        // give
+        boardListCache.get(PageRequest.of(0, 10), this::load);
+        boardListCache.get(PageRequest.of(0, 10), this::load);
+        assertThat(loadCount.get()).isEqualTo(1);
+
+        // when
+        boardListCache.refresh(); // 변경 없음
+        boardListCache.markDirty();
+        boardListCache.refresh();
+        boardListCache.get(PageRequest.of(0, 10), this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Tag("cache")
+    @Test
+    void 동시_요청은_한_번만_조회() throws Exception {
+        // give
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // when
+        Future<?>[] futures = new Future<?>[threads];
+        for (int i = 0; i < threads; i++) {
+            futures[i] = executor.submit(() -> boardListCache.get(PageRequest.of(0, 10), pageable -> {
+                sleep();
+                return load(pageable);
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Tag("cache")
+    @Test
+    void 읽기_전용_트랜잭션에서_조회() throws Exception {
+        // give
+        List<Boolean> readOnly = new CopyOnWriteArrayList<>();
+        Function<Pageable, Page<BoardAndCommentCount>> loader = pageable -> {
+            readOnly.add(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            return load(pageable);
+        };
+
+        // when
+        boardListCache.get(PageRequest.of(0, 10), loader); // 요청
+        boardListCache.markDirty();
+        boardListCache.refresh(); // 스케줄러
+
+        // then
+        assertThat(readOnly).containsExactly(true, true);
+    }
+
+    @Tag("cache")
+    @Test
+    void 먼저_시작한_조회는_나중_스냅샷을_덮어쓰지_않음() throws Exception {
+        // give
+        CountDownLatch refreshing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger version = new AtomicInteger();
+        boardListCache.get(PageRequest.of(0, 10), pageable -> {
+            int current = version.incrementAndGet();
+            if (current == 2) { // refresh 조회
+                refreshing.countDown();
+                await(release);
+            }
+            return new PageImpl<>(Collections.emptyList(), pageable, current);
+        });
+
+        // when
+        boardListCache.markDirty();
+        CompletableFuture<Void> refresh = CompletableFuture.runAsync(boardListCache::refresh);
+        refreshing.await();
+
+        boardListCache.clear();
+        Page<BoardAndCommentCount> latest = boardListCache.get(PageRequest.of(0, 10),
+                pageable -> new PageImpl<>(Collections.emptyList(), pageable, version.incrementAndGet())); // refresh 보다 나중에 조회
+
+        release.countDown();
+        refresh.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(latest.getTotalElements()).isEqualTo(3);
+        assertThat(boardListCache.get(PageRequest.of(0, 10), this::load).getTotalElements()).isEqualTo(3);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(200);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 트랜잭션 동기화만 수행하는 트랜잭션 매니저 (DB 없음)
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+
+}
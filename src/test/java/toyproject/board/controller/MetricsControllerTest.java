@@ -0,0 +1,37 @@
+package toyproject.board.controller;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class MetricsControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Tag("auth")
+    @Test
+    void 로그인_없이_지표_조회_실패() throws Exception {
+        mockMvc.perform(get("/metrics/latency"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/metrics/member-purge"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Tag("auth")
+    @Test
+    void 로그인_없이_지표_초기화_실패() throws Exception {
+        mockMvc.perform(post("/metrics/latency/reset"))
+                .andExpect(status().isUnauthorized());
+    }
+
+}
@@ -0,0 +1,174 @@
+package toyproject.board.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    ReplicaRoutingDataSource routingDataSource;
+    Replica replica1;
+    Replica replica2;
+    JdbcTemplate jdbcTemplate;
+    TransactionTemplate readTemplate;
+    TransactionTemplate writeTemplate;
+
+    // 내장 DB 마다 자신의 이름을 저장
+    private DataSource embedded(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE node (name VARCHAR(20))");
+        template.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+
+    @BeforeEach
+    void init() {
+        replica1 = new Replica("replica-0", embedded("replica-0"));
+        replica2 = new Replica("replica-1", embedded("replica-1"));
+        routingDataSource = new ReplicaRoutingDataSource(embedded("primary"), Arrays.asList(replica1, replica2));
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readTemplate = new TransactionTemplate(transactionManager);
+        readTemplate.setReadOnly(true);
+        writeTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    private String read() {
+        return readTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private String write() {
+        return writeTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    @Tag("datasource")
+    @Test
+    void 읽기는_복제본_라운드_로빈() throws Exception {
+        // when
+        String first = read();
+        String second = read();
+        String third = read();
+
+        // then
+        assertThat(first).isEqualTo("replica-0");
+        assertThat(second).isEqualTo("replica-1");
+        assertThat(third).isEqualTo("replica-0");
+    }
+
+    @Tag("datasource")
+    @Test
+    void 쓰기와_트랜잭션_밖은_primary() throws Exception {
+        // when
+        String inWrite = write();
+        String outside = jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+
+        // then
+        assertThat(inWrite).isEqualTo("primary");
+        assertThat(outside).isEqualTo("primary");
+    }
+
+    @Tag("datasource")
+    @Test
+    void 복제_지연이_크면_제외() throws Exception {
+        // give
+        ReplicaHealthChecker lagging = new ReplicaHealthChecker(routingDataSource,
+                "SELECT 100 AS Seconds_Behind_Master", "Seconds_Behind_Master", 10, 1000);
+        ReplicaHealthChecker caughtUp = new ReplicaHealthChecker(routingDataSource,
+                "SELECT 0 AS Seconds_Behind_Master", "Seconds_Behind_Master", 10, 1000);
+
+        // when
+        lagging.check(replica1);
+
+        // then
+        assertThat(replica1.isHealthy()).isFalse();
+        assertThat(read()).isEqualTo("replica-1");
+        assertThat(read()).isEqualTo("replica-1");
+
+        // when
+        caughtUp.check(replica1);
+
+        // then
+        assertThat(replica1.isHealthy()).isTrue();
+    }
+
+    @Tag("datasource")
+    @Test
+    void 정상_복제본이_없으면_primary() throws Exception {
+        // give
+        replica1.update(false, Long.MAX_VALUE);
+        replica2.update(false, Long.MAX_VALUE);
+
+        // when
+        String result = read();
+
+        // then
+        assertThat(result).isEqualTo("primary");
+    }
+
+    @Tag("datasource")
+    @Test
+    void 캐시를_채우는_조회는_primary() throws Exception {
+        // when
+        String result = readTemplate.execute(status -> PrimaryReads.execute(
+                () -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class)));
+
+        // then
+        assertThat(result).isEqualTo("primary");
+        assertThat(PrimaryReads.isActive()).isFalse();
+        assertThat(read()).isEqualTo("replica-0");
+    }
+
+    @Tag("datasource")
+    @Test
+    void 응답_없는_복제본은_timeout_후_제외() throws Exception {
+        // give
+        CountDownLatch release = new CountDownLatch(1);
+        DataSource blocking = new DriverManagerDataSource("jdbc:h2:mem:blocking") {
+            @Override
+            public Connection getConnection() throws SQLException {
+                try {
+                    release.await(); // 커넥션 풀 connectionTimeout 동안 막힘
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new SQLException("connection timeout");
+            }
+        };
+        Replica dead = new Replica("replica-dead", blocking);
+        ReplicaRoutingDataSource withDead = new ReplicaRoutingDataSource(embedded("primary"), Arrays.asList(dead));
+        ReplicaHealthChecker checker = new ReplicaHealthChecker(withDead, "", "Seconds_Behind_Master", 10, 200);
+
+        // when
+        long start = System.currentTimeMillis();
+        checker.check();
+        checker.check(); // 이전 확인이 끝나지 않았으면 새로 시작하지 않음
+        long elapsed = System.currentTimeMillis() - start;
+
+        // then
+        assertThat(dead.isHealthy()).isFalse();
+        assertThat(elapsed).isLessThan(2000);
+
+        release.countDown();
+        checker.destroy();
+    }
+
+}
@@ -0,0 +1,125 @@
+package toyproject.board.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import toyproject.board.config.DataSourceConfig;
+
+import javax.persistence.Entity;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+// open-in-view 처럼 요청 동안 EntityManager 를 유지할 때 트랜잭션마다 다시 라우팅되는지 확인 (JPA)
+class ReplicaRoutingJpaTest {
+
+    DataSource primary;
+    DataSource replica;
+    EntityManagerFactory emf;
+    TransactionTemplate readTemplate;
+    TransactionTemplate writeTemplate;
+
+    // 내장 DB 마다 자신의 이름을 저장
+    private DataSource embedded(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE node (name VARCHAR(20) PRIMARY KEY)");
+        template.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+
+    @BeforeEach
+    void init() {
+        primary = embedded("primary");
+        replica = embedded("replica-0");
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primary,
+                Collections.singletonList(new Replica("replica-0", replica)));
+
+        // 라우팅 사용 시 애플리케이션과 같은 하이버네이트 설정
+        Map<String, Object> properties = new HashMap<>();
+        new DataSourceConfig().releaseConnectionAfterTransaction().customize(properties);
+
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(new LazyConnectionDataSourceProxy(routingDataSource));
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setPackagesToScan(ReplicaRoutingJpaTest.class.getPackage().getName());
+        factory.setJpaPropertyMap(properties);
+        factory.afterPropertiesSet();
+        emf = factory.getObject();
+
+        JpaTransactionManager transactionManager = new JpaTransactionManager(emf);
+        readTemplate = new TransactionTemplate(transactionManager);
+        readTemplate.setReadOnly(true);
+        writeTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void after() {
+        emf.close();
+    }
+
+    private static int count(DataSource dataSource, String name) {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM node WHERE name = ?", Integer.class, name);
+    }
+
+    @Tag("datasource")
+    @Test
+    void 한_요청에서_읽기_후_쓰기는_primary() throws Exception {
+        // give : OpenEntityManagerInViewInterceptor 와 같이 요청 동안 EntityManager 를 스레드에 바인딩
+        EntityManager em = emf.createEntityManager();
+        TransactionSynchronizationManager.bindResource(emf, new EntityManagerHolder(em));
+
+        try {
+            // when : 로그인 확인(읽기 전용) 후 수정(쓰기)
+            String read = readTemplate.execute(status ->
+                    em.createQuery("select n.name from RoutingNode n", String.class).getSingleResult());
+            writeTemplate.executeWithoutResult(status -> em.persist(new Node("written")));
+            Long readAgain = readTemplate.execute(status ->
+                    em.createQuery("select count(n) from RoutingNode n", Long.class).getSingleResult());
+
+            // then
+            assertThat(read).isEqualTo("replica-0");
+            assertThat(count(primary, "written")).isEqualTo(1);
+            assertThat(count(replica, "written")).isEqualTo(0);
+            assertThat(readAgain).isEqualTo(1L); // 복제본에는 복제되지 않았으므로 원래 한 건
+        } finally {
+            TransactionSynchronizationManager.unbindResource(emf);
+            em.close();
+        }
+    }
+
+    @Entity(name = "RoutingNode")
+    @Table(name = "node")
+    static class Node {
+
+        @Id
+        private String name;
+
+        protected Node() {
+        }
+
+        Node(String name) {
+            this.name = name;
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+package toyproject.board.domain.comment;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import toyproject.board.domain.board.Board;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+// 실제 매핑(PooledIdGenerator)과 설정(jdbc.batch_size)으로 댓글 INSERT 가 배치되는지 하이버네이트 통계로 확인
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class CommentBatchInsertTest {
+
+    private static final int ROWS = 120;
+
+    @Autowired
+    EntityManager em;
+
+    @Tag("createComment")
+    @Test
+    void 댓글_INSERT_배치() throws Exception {
+        // give
+        Board board = Board.builder()
+                .title("board title")
+                .content("board content")
+                .nickname("board creator")
+                .password("1234")
+                .build();
+        em.persist(board);
+        em.flush();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            Comment comment = Comment.builder()
+                    .board(board)
+                    .content("comment " + i)
+                    .nickname("test " + i)
+                    .password("1234")
+                    .build();
+            em.persist(comment);
+            comments.add(comment);
+        }
+        long insertedBeforeFlush = statistics.getEntityInsertCount();
+
+        em.flush();
+
+        // then
+        assertThat(insertedBeforeFlush).isZero(); // IDENTITY 면 persist 시점에 INSERT
+        assertThat(comments).allMatch(comment -> comment.getId() != null);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+
+        // 배치가 아니면 INSERT 마다 PreparedStatement (ROWS 개 이상)
+        // 배치면 batch_size(50) 마다 INSERT 한 번 + allocation-size(50) 마다 ID 구간 조회, 변경
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(20);
+    }
+
+}
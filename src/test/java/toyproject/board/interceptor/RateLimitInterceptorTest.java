@@ -0,0 +1,62 @@
+package toyproject.board.interceptor;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 비동기 핸들러(CompletableFuture) 는 응답 디스패치에서 인터셉터가 다시 실행되므로 요청당 한 번만 차감하는지 확인
+@SpringBootTest(properties = {
+        "board.rate-limit.board-create.capacity=2",
+        "board.rate-limit.board-create.refill-per-minute=1"
+})
+@AutoConfigureMockMvc
+class RateLimitInterceptorTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    // 테스트마다 다른 클라이언트 (버킷 공유 방지)
+    private final String clientIp = UUID.randomUUID().toString();
+
+    private MockHttpServletRequestBuilder createBoard() {
+        return post("/board/new")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("X-FORWARDED-FOR", clientIp)
+                .content("{\"title\":\"title\",\"content\":\"content\",\"nickname\":\"nickname\",\"password\":\"1234\"}");
+    }
+
+    @Tag("rateLimit")
+    @Test
+    void 비동기_요청은_토큰_하나만_사용() throws Exception {
+        // when
+        for (int i = 0; i < 2; i++) {
+            MvcResult result = mockMvc.perform(createBoard())
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            // then
+            mockMvc.perform(asyncDispatch(result))
+                    .andExpect(status().isCreated());
+        }
+
+        // then
+        mockMvc.perform(createBoard())
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+    }
+
+}
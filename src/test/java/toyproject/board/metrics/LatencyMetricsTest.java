@@ -0,0 +1,55 @@
+package toyproject.board.metrics;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import toyproject.board.dto.metrics.LatencyDto;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LatencyMetricsTest {
+
+    LatencyMetrics latencyMetrics = new LatencyMetrics();
+
+    @Tag("getLatencies")
+    @Test
+    void 응답_시간_백분위() throws Exception {
+        // give
+        for (int i = 1; i <= 100; i++) {
+            latencyMetrics.record("BoardController.getBoardDetail(..)", TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        latencyMetrics.record("MemberController.login(..)", TimeUnit.MILLISECONDS.toNanos(80));
+
+        // when
+        List<LatencyDto> result = latencyMetrics.getLatencies();
+
+        // then
+        assertThat(result).extracting("handler")
+                .containsExactly("BoardController.getBoardDetail(..)", "MemberController.login(..)");
+
+        LatencyDto board = result.get(0);
+        assertThat(board.getCount()).isEqualTo(100);
+        assertThat(board.getP50()).isCloseTo(50_000, withinPercentage(1));
+        assertThat(board.getP90()).isCloseTo(90_000, withinPercentage(1));
+        assertThat(board.getP99()).isCloseTo(99_000, withinPercentage(1));
+        assertThat(board.getMax()).isCloseTo(100_000, withinPercentage(1));
+    }
+
+    @Tag("getLatencies")
+    @Test
+    void 응답_시간_누적() throws Exception {
+        // give
+        latencyMetrics.record("BoardController.getBoardList(..)", 1_000_000);
+        latencyMetrics.getLatencies();
+
+        // when
+        latencyMetrics.record("BoardController.getBoardList(..)", 3_000_000);
+        List<LatencyDto> result = latencyMetrics.getLatencies();
+
+        // then
+        assertThat(result.get(0).getCount()).isEqualTo(2);
+    }
+
+}
@@ -0,0 +1,99 @@
+package toyproject.board.ratelimit;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RateLimiterTest {
+
+    AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    // 5회 연속 허용, 분당 60회 (1초에 하나) 충전
+    RateLimiter rateLimiter = new RateLimiter(5, 60, 1000, now::get);
+
+    @Tag("rateLimit")
+    @Test
+    void 연속_허용_후_거절() throws Exception {
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.tryAcquire("1.1.1.1")).isZero();
+        }
+        long wait = rateLimiter.tryAcquire("1.1.1.1");
+
+        // then
+        assertThat(wait).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+        assertThat(rateLimiter.tryAcquire("2.2.2.2")).isZero(); // 다른 클라이언트는 따로
+    }
+
+    @Tag("rateLimit")
+    @Test
+    void 시간이_지나면_충전() throws Exception {
+        // give
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.tryAcquire("1.1.1.1");
+        }
+
+        // when
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(2500));
+
+        // then
+        assertThat(rateLimiter.tryAcquire("1.1.1.1")).isZero();
+        assertThat(rateLimiter.tryAcquire("1.1.1.1")).isZero();
+        assertThat(rateLimiter.tryAcquire("1.1.1.1")).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Tag("rateLimit")
+    @Test
+    void 오래_쉬어도_capacity_까지만() throws Exception {
+        // give
+        TokenBucket bucket = new TokenBucket(5, 10, 0);
+
+        // when
+        long now = 1_000_000;
+
+        // then
+        assertThat(bucket.available(now)).isEqualTo(5);
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryAcquire(now)).isZero();
+        }
+        assertThat(bucket.tryAcquire(now)).isPositive();
+        assertThat(bucket.available(now)).isZero();
+    }
+
+    @Tag("rateLimit")
+    @Test
+    void 동시_요청() throws Exception {
+        // give
+        TokenBucket bucket = new TokenBucket(1000, TimeUnit.HOURS.toNanos(1), 0);
+        int threadCount = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger allowed = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < 500; j++) {
+                    if (bucket.tryAcquire(0) == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                latch.countDown();
+            });
+        }
+        latch.await();
+        executor.shutdown();
+
+        // then
+        assertThat(allowed.get()).isEqualTo(1000);
+    }
+
+}
@@ -0,0 +1,199 @@
+package toyproject.board.search;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import toyproject.board.dto.board.query.BoardIndexDto;
+import toyproject.board.dto.board.query.BoardSearchCondition;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BoardSearchIndexTest {
+
+    BoardSearchIndex boardSearchIndex;
+
+    @BeforeEach
+    void before() throws Exception {
+        boardSearchIndex = new BoardSearchIndex(true, ""); // 메모리 색인
+
+        LocalDateTime now = LocalDateTime.now();
+        boardSearchIndex.addAll(Arrays.asList(
+                board(1L, "스프링 게시판 만들기", "JPA 와 QueryDSL 사용", "user1", 1L, now.minusDays(3)),
+                board(2L, "Spring Boot 시작하기", "스프링부트 설정", "user2", 2L, now.minusDays(2)),
+                board(3L, "오늘의 일기", "게시판에 글을 남깁니다", "guest", null, now.minusDays(1)),
+                board(4L, "게 요리", "대게와 꽃게", "user1", 1L, now)
+        ));
+    }
+
+    @AfterEach
+    void after() throws Exception {
+        boardSearchIndex.destroy();
+    }
+
+    @Tag("search")
+    @Test
+    void 제목_부분_검색() throws Exception {
+        // give
+        BoardSearchCondition condition = BoardSearchCondition.builder()
+                .title("게시판")
+                .build();
+
+        // when
+        BoardSearchIndex.SearchResult result = boardSearchIndex.search(condition, 0, 10);
+
+        // then
+        assertThat(result.getTotalHits()).isEqualTo(1);
+        assertThat(result.getBoardIds()).containsExactly(1L);
+    }
+
+    @Tag("search")
+    @Test
+    void 내용_부분_검색_붙어있는_단어() throws Exception {
+        // give
+        BoardSearchCondition condition = BoardSearchCondition.builder()
+                .content("스프링")
+                .build();
+
+        // when
+        BoardSearchIndex.SearchResult result = boardSearchIndex.search(condition, 0, 10);
+
+        // then
+        assertThat(result.getBoardIds()).containsExactly(2L); // "스프링부트"
+    }
+
+    @Tag("search")
+    @Test
+    void 대소문자_무시_한_글자_검색() throws Exception {
+        // give
+        BoardSearchCondition upper = BoardSearchCondition.builder()
+                .title("SPRING")
+                .build();
+        BoardSearchCondition single = BoardSearchCondition.builder()
+                .title("게")
+                .isAsc(true)
+                .build();
+
+        // when
+        BoardSearchIndex.SearchResult upperResult = boardSearchIndex.search(upper, 0, 10);
+        BoardSearchIndex.SearchResult singleResult = boardSearchIndex.search(single, 0, 10);
+
+        // then
+        assertThat(upperResult.getBoardIds()).containsExactly(2L);
+        assertThat(singleResult.getBoardIds()).containsExactly(1L, 4L);
+    }
+
+    @Tag("search")
+    @Test
+    void 연속되지_않은_글자는_검색되지_않음() throws Exception {
+        // give
+        BoardSearchCondition condition = BoardSearchCondition.builder()
+                .content("대꽃")
+                .build();
+
+        // when
+        BoardSearchIndex.SearchResult result = boardSearchIndex.search(condition, 0, 10);
+
+        // then
+        assertThat(result.getTotalHits()).isEqualTo(0);
+    }
+
+    @Tag("search")
+    @Test
+    void 검색_페이징_멤버_조건() throws Exception {
+        // give
+        BoardSearchCondition condition = BoardSearchCondition.builder()
+                .content("게")
+                .memberId(1L)
+                .build();
+
+        // when
+        BoardSearchIndex.SearchResult first = boardSearchIndex.search(condition, 0, 1);
+        BoardSearchIndex.SearchResult second = boardSearchIndex.search(condition, 1, 1);
+
+        // then
+        assertThat(first.getTotalHits()).isEqualTo(1);
+        assertThat(first.getBoardIds()).containsExactly(4L);
+        assertThat(second.getBoardIds()).isEmpty();
+    }
+
+    @Tag("update")
+    @Test
+    void 색인_수정_삭제() throws Exception {
+        // give
+        BoardSearchCondition condition = BoardSearchCondition.builder()
+                .title("일기")
+                .build();
+
+        // when
+        boardSearchIndex.update(board(3L, "오늘의 메모", "게시판에 글을 남깁니다", "guest", null, LocalDateTime.now()));
+        BoardSearchIndex.SearchResult updated = boardSearchIndex.search(condition, 0, 10);
+
+        boardSearchIndex.delete(Collections.singletonList(1L));
+        BoardSearchIndex.SearchResult deleted = boardSearchIndex.search(BoardSearchCondition.builder().title("스프링").build(), 0, 10);
+
+        // then
+        assertThat(updated.getTotalHits()).isEqualTo(0);
+        assertThat(deleted.getTotalHits()).isEqualTo(0);
+        assertThat(boardSearchIndex.size()).isEqualTo(3);
+    }
+
+    @Tag("rebuild")
+    @Test
+    void 재색인_중에도_기존_색인_검색_후_교체() throws Exception {
+        // give
+        BoardSearchCondition all = BoardSearchCondition.builder().build();
+        BoardSearchCondition memo = BoardSearchCondition.builder().title("메모").build();
+
+        // when
+        BoardSearchIndex.SearchResult during;
+        try (BoardSearchIndex.Rebuild rebuild = boardSearchIndex.beginRebuild()) {
+            rebuild.addAll(Arrays.asList(
+                    board(1L, "스프링 게시판 만들기", "JPA 와 QueryDSL 사용", "user1", 1L, LocalDateTime.now()),
+                    board(2L, "Spring Boot 시작하기", "스프링부트 설정", "user2", 2L, LocalDateTime.now())
+            ));
+            boardSearchIndex.update(board(5L, "새 메모", "재색인 중에 작성", "guest", null, LocalDateTime.now())); // 재색인 중 변경
+            boardSearchIndex.delete(Collections.singletonList(2L)); // 재색인 중 삭제
+
+            during = boardSearchIndex.search(all, 0, 10);
+            rebuild.swap();
+        }
+        BoardSearchIndex.SearchResult after = boardSearchIndex.search(all, 0, 10);
+
+        // then
+        assertThat(during.getTotalHits()).isEqualTo(4); // 기존 4건 - 삭제 1건 + 추가 1건
+        assertThat(after.getBoardIds()).containsExactlyInAnyOrder(1L, 5L);
+        assertThat(boardSearchIndex.search(memo, 0, 10).getBoardIds()).containsExactly(5L);
+    }
+
+    @Tag("rebuild")
+    @Test
+    void 교체하지_않은_재색인은_버림() throws Exception {
+        // when
+        try (BoardSearchIndex.Rebuild rebuild = boardSearchIndex.beginRebuild()) {
+            rebuild.addAll(Collections.singletonList(
+                    board(9L, "버려질 게시물", "", "guest", null, LocalDateTime.now())));
+        }
+        boardSearchIndex.update(board(5L, "새 메모", "", "guest", null, LocalDateTime.now()));
+
+        // then
+        assertThat(boardSearchIndex.size()).isEqualTo(5);
+        assertThat(boardSearchIndex.search(BoardSearchCondition.builder().title("버려질").build(), 0, 10).getTotalHits()).isEqualTo(0);
+    }
+
+    private BoardIndexDto board(Long boardId, String title, String content, String nickname, Long memberId, LocalDateTime createdDate) {
+        return BoardIndexDto.builder()
+                .boardId(boardId)
+                .title(title)
+                .content(content)
+                .nickname(nickname)
+                .memberId(memberId)
+                .createdDate(createdDate)
+                .build();
+    }
+
+}
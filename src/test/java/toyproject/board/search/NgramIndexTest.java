@@ -0,0 +1,83 @@
+package toyproject.board.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class NgramIndexTest {
+
+    NgramIndex ngramIndex = new NgramIndex();
+
+    @BeforeEach
+    void before() {
+        ngramIndex.put(1L, "user1");
+        ngramIndex.put(2L, "user12");
+        ngramIndex.put(3L, "Best_Member");
+        ngramIndex.put(4L, "홍길동");
+        ngramIndex.put(5L, "aaaa");
+    }
+
+    @Tag("search")
+    @Test
+    void 부분_문자열_검색() throws Exception {
+        // when
+        long[] threeOrLess = ngramIndex.search("r1");
+        long[] longer = ngramIndex.search("ser12");
+        long[] korean = ngramIndex.search("길");
+
+        // then
+        assertThat(threeOrLess).containsExactly(1L, 2L);
+        assertThat(longer).containsExactly(2L);
+        assertThat(korean).containsExactly(4L);
+    }
+
+    @Tag("search")
+    @Test
+    void 대소문자_무시() throws Exception {
+        // when
+        long[] result = ngramIndex.search("_MEMB");
+
+        // then
+        assertThat(result).containsExactly(3L);
+    }
+
+    @Tag("search")
+    @Test
+    void 연속되지_않은_3gram_은_제외() throws Exception {
+        // give
+        ngramIndex.put(6L, "abcx_bcd");
+
+        // when
+        long[] result = ngramIndex.search("abcd");
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Tag("put")
+    @Test
+    void 갱신_삭제() throws Exception {
+        // when
+        ngramIndex.put(1L, "guest");
+        ngramIndex.remove(5L);
+
+        // then
+        assertThat(ngramIndex.search("user")).containsExactly(2L);
+        assertThat(ngramIndex.search("gues")).containsExactly(1L);
+        assertThat(ngramIndex.search("a")).isEmpty(); // "aaaa" 삭제
+        assertThat(ngramIndex.size()).isEqualTo(4);
+    }
+
+    @Tag("search")
+    @Test
+    void 빈_검색어는_전체() throws Exception {
+        // when
+        long[] result = ngramIndex.search("");
+
+        // then
+        assertThat(result).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+}
@@ -0,0 +1,105 @@
+package toyproject.board.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import toyproject.board.dto.IdAndNameDto;
+import toyproject.board.dto.member.query.MemberSuggestDto;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UsernameSuggesterTest {
+
+    UsernameSuggester usernameSuggester = new UsernameSuggester();
+
+    @BeforeEach
+    void before() {
+        usernameSuggester.load(Arrays.asList(
+                new IdAndNameDto(1L, "user2"),
+                new IdAndNameDto(2L, "User1"),
+                new IdAndNameDto(3L, "admin"),
+                new IdAndNameDto(4L, "user10"),
+                new IdAndNameDto(5L, "username")
+        ));
+    }
+
+    @Tag("search")
+    @Test
+    void 접두사_검색() throws Exception {
+        // when
+        List<MemberSuggestDto> result = usernameSuggester.suggest("USER1", 10);
+
+        // then
+        assertThat(result).extracting("username").containsExactly("User1", "user10");
+        assertThat(result).extracting("memberId").containsExactly(2L, 4L);
+    }
+
+    @Tag("search")
+    @Test
+    void 개수_제한() throws Exception {
+        // when
+        List<MemberSuggestDto> result = usernameSuggester.suggest("user", 2);
+        List<MemberSuggestDto> empty = usernameSuggester.suggest("", 10);
+
+        // then
+        assertThat(result).extracting("username").containsExactly("User1", "user10");
+        assertThat(empty).isEmpty();
+    }
+
+    @Tag("search")
+    @Test
+    void 추가_삭제() throws Exception {
+        // when
+        usernameSuggester.add(6L, "user0");
+        usernameSuggester.remove(4L, "user10");
+
+        // then
+        assertThat(usernameSuggester.size()).isEqualTo(5);
+        assertThat(usernameSuggester.suggest("user", 10)).extracting("username")
+                .containsExactly("user0", "User1", "user2", "username");
+    }
+
+    @Tag("load")
+    @Test
+    void 적재_중_변경_반영() throws Exception {
+        // give
+        usernameSuggester.beginLoad();
+
+        // when
+        usernameSuggester.add(6L, "user0"); // DB 를 읽은 뒤 가입
+        usernameSuggester.remove(4L, "user10"); // DB 를 읽은 뒤 탈퇴
+        usernameSuggester.load(Arrays.asList(
+                new IdAndNameDto(2L, "User1"),
+                new IdAndNameDto(4L, "user10")
+        ));
+
+        // then
+        assertThat(usernameSuggester.size()).isEqualTo(2);
+        assertThat(usernameSuggester.suggest("user", 10)).extracting("username")
+                .containsExactly("user0", "User1");
+    }
+
+    @Tag("search")
+    @Test
+    void 변경분_병합_후_검색() throws Exception {
+        // when
+        for (long id = 100; id < 1100; id++) {
+            usernameSuggester.add(id, "member" + id);
+        }
+        for (long id = 100; id < 1100; id += 2) {
+            usernameSuggester.remove(id, "member" + id);
+        }
+        usernameSuggester.remove(1L, "user2");
+
+        // then
+        assertThat(usernameSuggester.size()).isEqualTo(4 + 500);
+        assertThat(usernameSuggester.suggest("member10", 3)).extracting("memberId")
+                .containsExactly(1001L, 1003L, 1005L); // "member10" < "member1000" < "member101"
+        assertThat(usernameSuggester.suggest("user", 10)).extracting("username")
+                .containsExactly("User1", "user10", "username");
+    }
+
+}
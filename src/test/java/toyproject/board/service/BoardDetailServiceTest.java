@@ -0,0 +1,102 @@
+package toyproject.board.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import toyproject.board.cache.BoardDetailCache;
+import toyproject.board.dto.board.query.BoardQueryDto;
+import toyproject.board.dto.comment.query.CommentQueryDto;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+// 쿼리는 목으로 대체하고 병렬 조회 결과를 합치는 부분만 확인 (트랜잭션 없음)
+class BoardDetailServiceTest {
+
+    BoardService boardService = mock(BoardService.class);
+    CommentService commentService = mock(CommentService.class);
+    BoardDetailCache boardDetailCache = new BoardDetailCache(false, 1024 * 1024, Duration.ofMinutes(1));
+
+    BoardDetailService boardDetailService = new BoardDetailService(boardService, commentService, boardDetailCache,
+            true, 3, 10, 10);
+
+    BoardQueryDto board = BoardQueryDto.builder()
+            .boardId(1L)
+            .title("title")
+            .build();
+
+    List<CommentQueryDto> comments = Collections.singletonList(CommentQueryDto.builder()
+            .commentId(11L)
+            .content("comment")
+            .build());
+
+    @AfterEach
+    void after() {
+        boardDetailService.destroy();
+    }
+
+    @Tag("getBoardDetail")
+    @Test
+    void 게시물과_댓글_페이지_합치기() throws Exception {
+        // give
+        PageRequest pageable = PageRequest.of(1, 10);
+        when(boardService.getBoard(eq(1L), any(), any())).thenReturn(board);
+        when(commentService.getCommentsContent(1L, pageable)).thenReturn(comments);
+        when(commentService.countComments(1L)).thenReturn(11L);
+
+        // when
+        Detail detail = boardDetailService.getBoardDetail(1L, null, "127.0.0.1", pageable, Detail::new)
+                .get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(detail.board).isSameAs(board);
+        assertThat(detail.comments.getContent()).isEqualTo(comments);
+        assertThat(detail.comments.getTotalElements()).isEqualTo(11L);
+        assertThat(detail.comments.getNumber()).isEqualTo(1);
+        verify(commentService, never()).getCommentsPage(any(), any());
+    }
+
+    @Tag("getBoardDetail")
+    @Test
+    void 마지막_페이지보다_큰_페이지는_마지막_페이지() throws Exception {
+        // give
+        PageRequest pageable = PageRequest.of(5, 10);
+        PageRequest lastPage = PageRequest.of(1, 10);
+        Page<CommentQueryDto> last = new PageImpl<>(comments, lastPage, 11L);
+
+        when(boardService.getBoard(eq(1L), any(), any())).thenReturn(board);
+        when(commentService.getCommentsContent(1L, pageable)).thenReturn(Collections.emptyList());
+        when(commentService.countComments(1L)).thenReturn(11L);
+        when(commentService.getCommentsPage(1L, lastPage)).thenReturn(last);
+
+        // when
+        Detail detail = boardDetailService.getBoardDetail(1L, null, "127.0.0.1", pageable, Detail::new)
+                .get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(detail.comments).isSameAs(last);
+        verify(commentService).getCommentsPage(1L, lastPage);
+    }
+
+    private static class Detail {
+
+        private final BoardQueryDto board;
+        private final Page<CommentQueryDto> comments;
+
+        private Detail(BoardQueryDto board, Page<CommentQueryDto> comments) {
+            this.board = board;
+            this.comments = comments;
+        }
+    }
+
+}
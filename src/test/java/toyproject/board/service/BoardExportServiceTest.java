@@ -0,0 +1,108 @@
+package toyproject.board.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import toyproject.board.domain.board.Board;
+import toyproject.board.domain.comment.Comment;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class BoardExportServiceTest {
+
+    @Autowired
+    BoardExportService boardExportService;
+    @Autowired
+    ObjectMapper objectMapper;
+    @Autowired
+    EntityManager em;
+
+    private final List<Long> boardIds = new ArrayList<>();
+
+    @BeforeEach
+    public void beforeEach() {
+
+        for (int i = 0; i < 3; i++) {
+            Board board = Board.builder()
+                    .title("title" + i)
+                    .content("content" + i)
+                    .nickname("nickname" + i)
+                    .password("1234")
+                    .build();
+            em.persist(board);
+            boardIds.add(board.getId());
+
+            Comment comment = Comment.builder()
+                    .content("comment" + i)
+                    .nickname("nickname" + i)
+                    .password("1234")
+                    .board(board)
+                    .build();
+            em.persist(comment);
+        }
+
+    }
+
+    private List<JsonNode> export(boolean withComments) throws Exception {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        boardExportService.export(withComments, out);
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            JsonNode node = objectMapper.readTree(line);
+            if (boardIds.contains(node.get("boardId").asLong())) {
+                lines.add(node);
+            }
+        }
+        return lines;
+    }
+
+    @Tag("exportBoard")
+    @Test
+    void 게시물_내보내기() throws Exception {
+        // when
+        List<JsonNode> lines = export(false);
+
+        // then
+        assertThat(lines).hasSize(3);
+        assertThat(lines).extracting(node -> node.get("type").asText()).containsOnly("board");
+        assertThat(lines).extracting(node -> node.get("title").asText()).containsExactly("title0", "title1", "title2");
+        assertThat(lines).allMatch(node -> !node.has("password"));
+    }
+
+    @Tag("exportBoard")
+    @Test
+    void 게시물_댓글_내보내기() throws Exception {
+        // when
+        List<JsonNode> lines = export(true);
+
+        // then
+        assertThat(lines).hasSize(6);
+
+        // 게시물을 모두 쓴 뒤 댓글
+        assertThat(lines.subList(0, 3)).extracting(node -> node.get("type").asText()).containsOnly("board");
+        assertThat(lines.subList(3, 6)).extracting(node -> node.get("type").asText()).containsOnly("comment");
+
+        Set<Long> commentBoardIds = lines.subList(3, 6).stream()
+                .map(node -> node.get("boardId").asLong())
+                .collect(Collectors.toSet());
+        assertThat(commentBoardIds).containsExactlyInAnyOrderElementsOf(boardIds);
+    }
+
+}
@@ -10,11 +10,13 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.transaction.annotation.Transactional;
+import toyproject.board.auth.LoginMember;
 import toyproject.board.domain.board.Board;
 import toyproject.board.domain.comment.Comment;
 import toyproject.board.domain.member.Member;
 import toyproject.board.dto.board.command.*;
 import toyproject.board.dto.board.query.BoardAndCommentCount;
+import toyproject.board.dto.board.query.BoardCursorSlice;
 import toyproject.board.dto.board.query.BoardQueryDto;
 import toyproject.board.dto.board.query.BoardSearchCondition;
 import toyproject.board.dto.member.command.MemberRequestDto;
@@ -33,6 +35,8 @@ class BoardServiceTest {
     @Autowired
     BoardService boardService;
     @Autowired
+    BoardViewCounter boardViewCounter;
+    @Autowired
     EntityManager em;
 
     /**
@@ -52,7 +56,7 @@ class BoardServiceTest {
         CreateBoardLoginDto dto = CreateBoardLoginDto.builder()
                 .title("test title.")
                 .content("test content.")
-                .member(member)
+                .member(LoginMember.from(member))
                 .build();
 
         // when
@@ -71,6 +75,32 @@ class BoardServiceTest {
         assertThat(result.getMember().getUsername()).isEqualTo(member.getUsername());
     }
 
+    @Tag("createBoard")
+    @Test
+    void 게시물_작성_실패_탈퇴한_멤버() throws Exception {
+        // give
+        Member member = Member.builder()
+                .username("test_member")
+                .password("1234")
+                .build();
+        em.persist(member);
+        member.withdraw();
+
+        em.flush();
+        em.clear();
+
+        CreateBoardLoginDto dto = CreateBoardLoginDto.builder()
+                .title("test title.")
+                .content("test content.")
+                .member(LoginMember.from(member)) // 탈퇴 전에 발급된 세션 / 토큰
+                .build();
+
+        // when then
+        assertThatThrownBy(() -> boardService.createBoard(dto))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("탈퇴한 회원입니다.");
+    }
+
     @Tag("createBoard")
     @Test
     void 게시물_작성_성공_로그인X() throws Exception {
@@ -127,7 +157,7 @@ class BoardServiceTest {
         // when
         DeleteBoardLoginDto dto = DeleteBoardLoginDto.builder()
                 .id(boardId)
-                .member(member)
+                .member(LoginMember.from(member))
                 .build();
         boardService.deleteBoard(dto);
 
@@ -182,7 +212,7 @@ class BoardServiceTest {
         // when
         DeleteBoardLoginDto dto = DeleteBoardLoginDto.builder()
                 .id(boardId)
-                .member(member)
+                .member(LoginMember.from(member))
                 .build();
         boardService.deleteBoard(dto);
 
@@ -331,7 +361,7 @@ class BoardServiceTest {
         // when
         DeleteBoardLoginDto dto = DeleteBoardLoginDto.builder()
                 .id(boardId)
-                .member(otherMember)
+                .member(LoginMember.from(otherMember))
                 .build();
         // boardService.deleteBoard(dto);
 
@@ -401,7 +431,7 @@ class BoardServiceTest {
         // when
         UpdateBoardLoginDto dto = UpdateBoardLoginDto.builder()
                 .id(boardId)
-                .member(member)
+                .member(LoginMember.from(member))
                 .title("updated title.")
                 .content("updated content.")
                 .build();
@@ -511,7 +541,7 @@ class BoardServiceTest {
         // when
         UpdateBoardLoginDto dto = UpdateBoardLoginDto.builder()
                 .id(boardId)
-                .member(otherMember)
+                .member(LoginMember.from(otherMember))
                 .title("updated title.")
                 .content("updated content.")
                 .build();
@@ -543,7 +573,7 @@ class BoardServiceTest {
         Long boardId = board.getId();
 
         // when
-        BoardQueryDto result = boardService.getBoard(boardId, null);
+        BoardQueryDto result = boardService.getBoard(boardId, null, "127.0.0.1");
 
         // then
         assertThat(result.getTitle()).isEqualTo("test title.");
@@ -551,6 +581,64 @@ class BoardServiceTest {
         assertThat(result.getNickname()).isEqualTo("test");
     }
 
+    @Tag("getBoard")
+    @Test
+    void 게시물_조회_수_반영() throws Exception {
+        // give
+        Board board = Board.builder()
+                .title("test title.")
+                .content("test content.")
+                .nickname("test")
+                .password("1234")
+                .build();
+        em.persist(board);
+
+        em.flush();
+        em.clear();
+
+        Long boardId = board.getId();
+
+        // when
+        BoardQueryDto first = boardService.getBoard(boardId, null, "10.0.1.1");
+        BoardQueryDto second = boardService.getBoard(boardId, null, "10.0.1.2");
+
+        boardViewCounter.flush();
+        em.clear();
+
+        // then
+        Board result = em.find(Board.class, boardId);
+
+        assertThat(first.getViews()).isEqualTo(1);
+        assertThat(second.getViews()).isEqualTo(2);
+        assertThat(result.getViews()).isEqualTo(2);
+    }
+
+    @Tag("getBoard")
+    @Test
+    void 게시물_조회_수_중복_조회() throws Exception {
+        // give
+        Board board = Board.builder()
+                .title("test title.")
+                .content("test content.")
+                .nickname("test")
+                .password("1234")
+                .build();
+        em.persist(board);
+
+        em.flush();
+        em.clear();
+
+        Long boardId = board.getId();
+
+        // when
+        boardService.getBoard(boardId, null, "10.0.0.1");
+        boardService.getBoard(boardId, null, "10.0.0.1");
+        BoardQueryDto result = boardService.getBoard(boardId, null, "10.0.0.2");
+
+        // then
+        assertThat(result.getViews()).isEqualTo(2);
+    }
+
     @Tag("getBoard")
     @Test
     void 게시물_조회_실패() throws Exception {
@@ -560,7 +648,7 @@ class BoardServiceTest {
         // boardService.getBoard(1212L);
 
         // then
-        assertThatThrownBy(() -> boardService.getBoard(1212L, null))
+        assertThatThrownBy(() -> boardService.getBoard(1212L, null, "127.0.0.1"))
                 .hasMessage("게시물을 찾을 수 없습니다.");
     }
 
@@ -661,6 +749,69 @@ class BoardServiceTest {
         assertThat(result.getNumberOfElements()).isEqualTo(1);
     }
 
+    @Tag("getBoardListByCursor")
+    @Test
+    void 게시물_리스트_커서() throws Exception {
+        // give
+        Member bestMember = Member.builder()
+                .username("best member")
+                .password("12341234")
+                .build();
+        em.persist(bestMember);
+
+        for (int i = 1; i <= 20; i++) {
+
+            Board board = Board.builder()
+                    .title("title - " + i)
+                    .content("content - " + i)
+                    .nickname(bestMember.getUsername())
+                    .member(bestMember)
+                    .build();
+
+            em.persist(board);
+        }
+
+        em.flush();
+        em.clear();
+
+        Pageable pageable = PageRequest.of(0, 3);
+
+        // when
+        BoardCursorSlice first = boardService.getBoardListByCursor("", null, pageable);
+        BoardCursorSlice second = boardService.getBoardListByCursor(first.getNextCursor(), null, pageable);
+        BoardCursorSlice prev = boardService.getBoardListByCursor(null, second.getPrevCursor(), pageable);
+
+        // then
+        assertThat(first.isHasPrev()).isFalse();
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getContent())
+                .extracting("title")
+                .containsExactly("title - 20", "title - 19", "title - 18");
+
+        assertThat(second.isHasPrev()).isTrue();
+        assertThat(second.getContent())
+                .extracting("title")
+                .containsExactly("title - 17", "title - 16", "title - 15");
+
+        assertThat(prev.getContent())
+                .extracting("title")
+                .containsExactly("title - 20", "title - 19", "title - 18");
+    }
+
+    @Tag("getBoardListByCursor")
+    @Test
+    void 게시물_리스트_커서_잘못된_커서() throws Exception {
+        // give
+        Pageable pageable = PageRequest.of(0, 3);
+
+        // when
+        // boardService.getBoardListByCursor("wrong cursor", null, pageable);
+
+        // then
+        assertThatThrownBy(() -> boardService.getBoardListByCursor("wrong cursor", null, pageable))
+                .hasMessage("잘못된 커서입니다.");
+    }
+
     @Tag("searchBoardList")
     @Test
     void 게시물_검색() throws Exception {
@@ -722,6 +873,7 @@ class BoardServiceTest {
 
         assertThat(result.getTotalElements()).isEqualTo(5);
         assertThat(result.getNumberOfElements()).isEqualTo(3);
+        assertThat(result.getContent()).allMatch(b -> b.getTitle().startsWith("best title")); // 내용이 아닌 제목
     }
 
     @Tag("searchBoardList")
@@ -0,0 +1,111 @@
+package toyproject.board.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import toyproject.board.domain.board.Board;
+import toyproject.board.domain.comment.CommentRepository;
+import toyproject.board.dto.comment.CommentImportChunkDto;
+import toyproject.board.dto.comment.query.CommentQueryDto;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class CommentImportServiceTest {
+
+    @Autowired
+    CommentImportService commentImportService;
+    @Autowired
+    CommentRepository commentRepository;
+    @Autowired
+    EntityManager em;
+
+    private Long boardId;
+
+    @BeforeEach
+    public void beforeEach() {
+
+        Board board = Board.builder()
+                .title("test title")
+                .content("test content")
+                .nickname("test nickname")
+                .password("1234")
+                .build();
+        em.persist(board);
+        this.boardId = board.getId();
+
+    }
+
+    private InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String comment(Long boardId, String content) {
+        return "{\"boardId\":" + boardId + ",\"content\":\"" + content + "\",\"nickname\":\"ㅇㅇ\",\"password\":\"1234\"}";
+    }
+
+    @Tag("importComment")
+    @Test
+    void 댓글_가져오기_NDJSON() throws Exception {
+        // give
+        String ndjson = comment(boardId, "comment1") + "\n"
+                + comment(boardId, "comment2") + "\n"
+                + comment(boardId, "comment3") + "\n";
+
+        // when
+        List<CommentImportChunkDto> chunks = commentImportService.importComments(body(ndjson));
+
+        // then
+        assertThat(chunks).hasSize(2); // chunk-size: 2
+        assertThat(chunks).extracting("imported").containsExactly(2, 1);
+
+        List<CommentQueryDto> comments = commentRepository.getCommentsByBoardId(boardId);
+        assertThat(comments).extracting("content").containsExactlyInAnyOrder("comment1", "comment2", "comment3");
+
+        Board board = em.find(Board.class, boardId);
+        assertThat(board.getCommentCount()).isEqualTo(3L);
+    }
+
+    @Tag("importComment")
+    @Test
+    void 댓글_가져오기_배열_건너뜀() throws Exception {
+        // give
+        String array = "[" + comment(boardId, "comment1") + ","
+                + comment(boardId + 1000, "no board") + ","
+                + comment(boardId, "") + "]";
+
+        // when
+        List<CommentImportChunkDto> chunks = commentImportService.importComments(body(array));
+
+        // then
+        assertThat(chunks).extracting("imported").containsExactly(1, 0);
+        assertThat(chunks).extracting("skipped").containsExactly(1, 1);
+        assertThat(commentRepository.getCommentsByBoardId(boardId)).hasSize(1);
+    }
+
+    @Tag("importComment")
+    @Test
+    void 댓글_가져오기_잘못된_JSON() throws Exception {
+        // give
+        String ndjson = comment(boardId, "comment1") + "\n{\"boardId\":";
+
+        // when
+
+        // then
+        assertThatThrownBy(() -> commentImportService.importComments(body(ndjson)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("2번째");
+    }
+
+}
@@ -9,6 +9,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
+import toyproject.board.auth.LoginMember;
 import toyproject.board.domain.board.Board;
 import toyproject.board.domain.comment.Comment;
 import toyproject.board.domain.member.Member;
@@ -68,7 +69,7 @@ class CommentServiceTest {
                 .content("test comment")
                 .build();
 
-        CreateCommentLoginDto dto = requestDto.toDto(member);
+        CreateCommentLoginDto dto = requestDto.toDto(LoginMember.from(member));
 
         // when
         Long commentId = commentService.createComment(dto);
@@ -82,6 +83,29 @@ class CommentServiceTest {
         assertThat(comment.getNickname()).isEqualTo(member.getUsername());
     }
 
+    @Tag("createComment")
+    @Test
+    void 댓글_생성_실패_탈퇴한_멤버() throws Exception {
+        // give
+        Member member = em.find(Member.class, memberId);
+        member.withdraw();
+
+        em.flush();
+        em.clear();
+
+        CreateCommentRequestDto requestDto = CreateCommentRequestDto.builder()
+                .boardId(boardId)
+                .content("test comment")
+                .build();
+
+        CreateCommentLoginDto dto = requestDto.toDto(LoginMember.from(member)); // 탈퇴 전에 발급된 세션 / 토큰
+
+        // when then
+        assertThatThrownBy(() -> commentService.createComment(dto))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("탈퇴한 회원입니다.");
+    }
+
     @Tag("createComment")
     @Test
     void 댓글_생성_비로그인() throws Exception {
@@ -106,6 +130,44 @@ class CommentServiceTest {
         assertThat(comment.getNickname()).isEqualTo("comment nickname");
     }
 
+    @Tag("createComment")
+    @Test
+    void 댓글_생성_삭제_댓글_수_반영() throws Exception {
+        // give
+        CreateCommentNotLoginDto createDto = CreateCommentRequestDto.builder()
+                .boardId(boardId)
+                .nickname("comment nickname")
+                .password("1234")
+                .content("test comment")
+                .build()
+                .toDto();
+
+        // when
+        Long commentId = commentService.createComment(createDto);
+        commentService.createComment(createDto);
+
+        em.flush();
+        em.clear();
+
+        Board created = em.find(Board.class, boardId);
+        Long createdCount = created.getCommentCount();
+
+        DeleteCommentNotLoginDto deleteDto = DeleteCommentNotLoginDto.builder()
+                .id(commentId)
+                .password("1234")
+                .build();
+        commentService.deleteComment(deleteDto);
+
+        em.flush();
+        em.clear();
+
+        // then
+        Board deleted = em.find(Board.class, boardId);
+
+        assertThat(createdCount).isEqualTo(2L);
+        assertThat(deleted.getCommentCount()).isEqualTo(1L);
+    }
+
     @Tag("updateComment")
     @Test
     void 댓글_수정_로그인() throws Exception {
@@ -124,7 +186,7 @@ class CommentServiceTest {
         UpdateCommentLoginDto dto = UpdateCommentLoginDto.builder()
                 .commentId(comment.getId())
                 .content("updated comment")
-                .member(member)
+                .member(LoginMember.from(member))
                 .build();
 
         em.flush();
@@ -196,7 +258,7 @@ class CommentServiceTest {
         UpdateCommentLoginDto dto = UpdateCommentLoginDto.builder()
                 .commentId(comment.getId())
                 .content("updated comment")
-                .member(otherMember)
+                .member(LoginMember.from(otherMember))
                 .build();
 
         em.flush();
@@ -264,7 +326,7 @@ class CommentServiceTest {
 
         DeleteCommentLoginDto dto = DeleteCommentLoginDto.builder()
                 .id(comment.getId())
-                .member(member)
+                .member(LoginMember.from(member))
                 .build();
 
         // when
@@ -324,7 +386,7 @@ class CommentServiceTest {
 
         DeleteCommentLoginDto dto = DeleteCommentLoginDto.builder()
                 .id(comment.getId())
-                .member(otherMember)
+                .member(LoginMember.from(otherMember))
                 .build();
 
         // when
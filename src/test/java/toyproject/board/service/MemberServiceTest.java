@@ -12,6 +12,7 @@ import toyproject.board.domain.member.Member;
 import toyproject.board.domain.member.MemberRepository;
 import toyproject.board.dto.member.command.MemberRequestDto;
 import toyproject.board.dto.member.query.MemberQueryDto;
+import toyproject.board.scheduler.MemberPurgeJob;
 
 import javax.persistence.EntityManager;
 
@@ -27,6 +28,8 @@ class MemberServiceTest {
     @Autowired
     MemberRepository memberRepository;
     @Autowired
+    MemberPurgeJob memberPurgeJob;
+    @Autowired
     EntityManager em;
 
     /**
@@ -280,6 +283,13 @@ class MemberServiceTest {
         // when
         memberService.withdrawal(member.getId());
 
+        Member withdrawnMember = em.find(Member.class, member.getId()); // 정리 전에는 논리 삭제만
+        assertThat(withdrawnMember.isWithdrawn()).isTrue();
+
+        memberPurgeJob.purge();
+        em.flush(); // 정리 작업은 테스트 트랜잭션에 참여하므로 삭제를 반영한 뒤 비움
+        em.clear();
+
         // then
         Member deletedMember = em.find(Member.class, member.getId()); // 유저
         assertThat(deletedMember).isNull();
@@ -298,6 +308,33 @@ class MemberServiceTest {
 
     }
 
+    @Tag("withdrawal")
+    @Test
+    void 탈퇴_후_로그인_조회_실패() throws Exception {
+        // give
+        Member member = Member.builder()
+                .username("test")
+                .password(BCrypt.hashpw("12341234", BCrypt.gensalt(10)))
+                .build();
+        em.persist(member);
+
+        MemberRequestDto dto = MemberRequestDto.builder()
+                .username("test")
+                .password("12341234")
+                .build();
+
+        // when
+        memberService.withdrawal(member.getId());
+
+        // then
+        assertThatThrownBy(() -> memberService.login(dto))
+                .hasMessage("이름을 다시 확인해주세요.");
+        assertThatThrownBy(() -> memberService.getMember(member.getId()))
+                .hasMessage("유저를 찾을 수 없습니다.");
+        assertThatThrownBy(() -> memberService.withdrawal(member.getId()))
+                .hasMessage("유저를 찾을 수 없습니다.");
+    }
+
     @Tag("withdrawal")
     @Test
     void 탈퇴_예외() throws Exception {
@@ -0,0 +1,97 @@
+package toyproject.board.service;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PasswordHashingServiceTest {
+
+    @Tag("hash")
+    @Test
+    void 비밀번호_해시_검증() throws Exception {
+        // give
+        PasswordHashingService passwordHashingService = new PasswordHashingService(4, 1, 1, 1, 1, 1);
+
+        // when
+        String hashed = passwordHashingService.submit(() -> passwordHashingService.hash("1234")).get();
+
+        // then
+        assertThat(hashed).isNotEqualTo("1234");
+        assertThat(passwordHashingService.matches("1234", hashed)).isTrue();
+        assertThat(passwordHashingService.matches("5678", hashed)).isFalse();
+
+        passwordHashingService.destroy();
+    }
+
+    @Tag("submit")
+    @Test
+    void 대기열_초과_거절() throws Exception {
+        // give
+        PasswordHashingService passwordHashingService = new PasswordHashingService(4, 1, 1, 1, 1, 1);
+        CountDownLatch latch = new CountDownLatch(1);
+
+        // when
+        CompletableFuture<Void> running = passwordHashingService.run(() -> await(latch)); // 실행 중
+        CompletableFuture<Void> queued = passwordHashingService.run(() -> await(latch)); // 대기열
+
+        // then
+        assertThatThrownBy(() -> passwordHashingService.run(() -> await(latch)))
+                .isInstanceOf(RejectedExecutionException.class);
+
+        latch.countDown();
+        CompletableFuture.allOf(running, queued).get();
+        passwordHashingService.destroy();
+    }
+
+    @Tag("hash")
+    @Test
+    void 해시만_해시_풀에서_실행() throws Exception {
+        // give
+        PasswordHashingService passwordHashingService = new PasswordHashingService(4, 1, 1, 1, 1, 1);
+
+        // when
+        String requestThread = passwordHashingService.submit(() -> {
+            passwordHashingService.hash("1234");
+            return Thread.currentThread().getName();
+        }).get();
+
+        // then
+        assertThat(requestThread).startsWith("password-request-");
+
+        passwordHashingService.destroy();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Tag("hash")
+    @Test
+    void 비밀번호_여러_개_해시() throws Exception {
+        // give
+        PasswordHashingService passwordHashingService = new PasswordHashingService(4, 1, 1, 1, 1, 2);
+
+        // when
+        List<String> hashed = passwordHashingService.hashAll(Arrays.asList("1234", "5678", "abcd"));
+
+        // then
+        assertThat(hashed).hasSize(3);
+        assertThat(passwordHashingService.matches("1234", hashed.get(0))).isTrue();
+        assertThat(passwordHashingService.matches("5678", hashed.get(1))).isTrue();
+        assertThat(passwordHashingService.matches("abcd", hashed.get(2))).isTrue();
+
+        passwordHashingService.destroy();
+    }
+
+}
@@ -0,0 +1,87 @@
+package toyproject.board.service;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import toyproject.board.domain.board.query.BoardQueryRepository;
+import toyproject.board.domain.trending.TrendingScore;
+import toyproject.board.domain.trending.TrendingScoreRepository;
+import toyproject.board.dto.board.query.BoardAndCommentCount;
+
+import javax.persistence.EntityManager;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// 저장소는 목으로 대체하고 체크포인트 / 복원 순서만 확인
+class TrendingServiceTest {
+
+    BoardQueryRepository boardQueryRepository = mock(BoardQueryRepository.class);
+    TrendingScoreRepository trendingScoreRepository = mock(TrendingScoreRepository.class);
+    EntityManager em = mock(EntityManager.class);
+    TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    TrendingService trendingService = new TrendingService(boardQueryRepository, trendingScoreRepository, em,
+            transactionTemplate, 50, Duration.ofHours(6), 1, 5, 0.01);
+
+    @Tag("trending")
+    @Test
+    void 복원_전_체크포인트는_저장된_점수를_지우지_않음() throws Exception {
+        // give
+        long now = System.currentTimeMillis();
+        when(trendingScoreRepository.findAll())
+                .thenReturn(Collections.singletonList(new TrendingScore(1L, 10.0, now)));
+        when(boardQueryRepository.findBoardListByIds(any()))
+                .thenReturn(Collections.singletonList(new BoardAndCommentCount(1L, 0, "title", "nickname",
+                        null, 0L, LocalDateTime.now(), LocalDateTime.now())));
+
+        // when
+        trendingService.checkpoint();
+        trendingService.refresh();
+
+        // then
+        verify(trendingScoreRepository, never()).deleteAllInBatch();
+        verify(em, never()).persist(any());
+        verify(boardQueryRepository, never()).findBoardListByIds(any());
+
+        // when
+        trendingService.afterSingletonsInstantiated();
+        trendingService.checkpoint();
+
+        // then
+        ArgumentCaptor<TrendingScore> saved = ArgumentCaptor.forClass(TrendingScore.class);
+        verify(trendingScoreRepository).deleteAllInBatch();
+        verify(em).persist(saved.capture());
+        assertThat(saved.getValue().getBoardId()).isEqualTo(1L);
+        assertThat(saved.getValue().getScore()).isCloseTo(10.0, within(0.01));
+        assertThat(trendingService.getTrending(10)).hasSize(1);
+    }
+
+    @Tag("trending")
+    @Test
+    void 복원_전에_기록된_점수에_더함() throws Exception {
+        // give
+        long now = System.currentTimeMillis();
+        when(trendingScoreRepository.findAll())
+                .thenReturn(Collections.singletonList(new TrendingScore(1L, 10.0, now)));
+        when(boardQueryRepository.findBoardListByIds(any()))
+                .thenReturn(Collections.singletonList(new BoardAndCommentCount(1L, 0, "title", "nickname",
+                        null, 0L, LocalDateTime.now(), LocalDateTime.now())));
+        trendingService.recordComment(1L);
+
+        // when
+        trendingService.restore();
+        trendingService.restore(); // 두 번째 복원은 무시
+
+        // then
+        verify(trendingScoreRepository, times(1)).findAll();
+        assertThat(trendingService.getTrending(10).get(0).getScore()).isCloseTo(15.0, within(0.01));
+    }
+
+}
@@ -0,0 +1,141 @@
+package toyproject.board.trending;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TrendingRankingTest {
+
+    static final long HOUR = 60 * 60 * 1000L;
+
+    private List<Long> top(TrendingRanking ranking, long now) {
+        List<Long> ids = new ArrayList<>();
+        ranking.forEachTop(now, (boardId, score) -> ids.add(boardId));
+        return ids;
+    }
+
+    @Tag("trending")
+    @Test
+    void 상위_k개() throws Exception {
+        // give
+        TrendingRanking ranking = new TrendingRanking(3, HOUR, 0);
+
+        // when
+        for (long boardId = 1; boardId <= 10; boardId++) {
+            for (int i = 0; i < boardId; i++) {
+                ranking.add(boardId, 1, 0);
+            }
+        }
+
+        // then
+        assertThat(top(ranking, 0)).containsExactly(10L, 9L, 8L);
+        assertThat(ranking.score(10L, 0)).isEqualTo(10.0);
+    }
+
+    @Tag("trending")
+    @Test
+    void 시간_감쇠() throws Exception {
+        // give
+        TrendingRanking ranking = new TrendingRanking(2, HOUR, 0);
+        ranking.add(1L, 10, 0);
+
+        // when
+        ranking.add(2L, 6, 2 * HOUR); // 1번은 2시간 뒤 2.5점
+
+        // then
+        assertThat(ranking.score(1L, 2 * HOUR)).isCloseTo(2.5, within(1e-9));
+        assertThat(top(ranking, 2 * HOUR)).containsExactly(2L, 1L);
+    }
+
+    @Tag("trending")
+    @Test
+    void landmark_이동() throws Exception {
+        // give
+        TrendingRanking ranking = new TrendingRanking(2, HOUR, 0);
+        ranking.add(1L, 1, 0);
+
+        // when
+        long now = 100 * HOUR; // e^(λ·100h) 는 double 범위를 넘으므로 중간에 값을 줄여야 함
+        ranking.add(2L, 1, now);
+
+        // then
+        assertThat(ranking.score(2L, now)).isCloseTo(1.0, within(1e-9));
+        assertThat(ranking.score(1L, now)).isCloseTo(Math.pow(0.5, 100), within(1e-12));
+        assertThat(top(ranking, now)).containsExactly(2L, 1L);
+    }
+
+    @Tag("trending")
+    @Test
+    void 삭제() throws Exception {
+        // give
+        TrendingRanking ranking = new TrendingRanking(2, HOUR, 0);
+        ranking.add(1L, 3, 0);
+        ranking.add(2L, 2, 0);
+        ranking.add(3L, 1, 0);
+
+        // when
+        ranking.remove(1L);
+
+        // then
+        assertThat(top(ranking, 0)).containsExactly(2L, 3L); // heap 밖에 있던 3번이 들어옴
+        assertThat(ranking.score(1L, 0)).isZero();
+        assertThat(ranking.size()).isEqualTo(2);
+    }
+
+    @Tag("trending")
+    @Test
+    void 오래된_점수_제거() throws Exception {
+        // give
+        TrendingRanking ranking = new TrendingRanking(2, HOUR, 0);
+        ranking.add(1L, 1, 0);
+        ranking.add(2L, 100, 0);
+
+        // when
+        int pruned = ranking.prune(0.5, 2 * HOUR); // 1번 0.25점, 2번 25점
+
+        // then
+        assertThat(pruned).isEqualTo(1);
+        assertThat(top(ranking, 2 * HOUR)).containsExactly(2L);
+    }
+
+    @Tag("trending")
+    @Test
+    void 무작위_이벤트와_전체_정렬_비교() throws Exception {
+        // give
+        int k = 20;
+        TrendingRanking ranking = new TrendingRanking(k, HOUR, 0);
+        Random random = new Random(42);
+
+        // when (resize, 삭제가 섞여도 heap 이 정확한지 확인)
+        for (int i = 0; i < 50_000; i++) {
+            long boardId = random.nextInt(3000);
+            if (random.nextInt(100) == 0) {
+                ranking.remove(boardId);
+            } else {
+                ranking.add(boardId, 1 + random.nextInt(5), i * 1000L);
+            }
+        }
+
+        // then
+        long now = 50_000 * 1000L;
+        List<double[]> all = new ArrayList<>();
+        ranking.forEach(now, (boardId, score) -> all.add(new double[]{boardId, score}));
+        all.sort((a, b) -> Double.compare(b[1], a[1]));
+
+        List<Double> expected = new ArrayList<>();
+        for (int i = 0; i < k; i++) {
+            expected.add(all.get(i)[1]);
+        }
+
+        List<Double> actual = new ArrayList<>();
+        ranking.forEachTop(now, (boardId, score) -> actual.add(score));
+
+        assertThat(actual).containsExactlyElementsOf(expected);
+    }
+
+}